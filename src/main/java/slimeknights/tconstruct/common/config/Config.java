@@ -247,6 +247,7 @@ public class Config {
     public final ForgeConfigSpec.BooleanValue renderShieldSlotItem;
     public final ForgeConfigSpec.BooleanValue modifiersIDsInAdvancedTooltips;
     public final ForgeConfigSpec.IntValue maxSmelteryItemQuads;
+    public final ForgeConfigSpec.IntValue smelteryItemRenderDistance;
 
     // framed modifier
     public final ForgeConfigSpec.BooleanValue renderItemFrame;
@@ -296,6 +297,11 @@ public class Config {
                  "Setting this lower will cause fewer items to be renderer (but never a partial item). Set to -1 to allow unlimited quads, and 0 to disable the item renderer.")
         .defineInRange("maxSmelteryItemQuads", 3500, -1, Short.MAX_VALUE);
 
+      this.smelteryItemRenderDistance = builder
+        .comment("Maximum distance in blocks from the camera to render items in the smeltery and foundry. Items further away are skipped, fluids are still rendered.",
+                 "Set to 0 to render items at any distance the structure is visible.")
+        .defineInRange("smelteryItemRenderDistance", 48, 0, 256);
+
       this.modifiersIDsInAdvancedTooltips = builder
         .comment("If true, shows modifier IDs in advanced tooltips for tools and tool parts.",
                  "They are more intrusive than most advanced tooltip content, so this option is provided in case some mod made poor design decisions and put essential gameplay info in tooltips or for pack makers who do not need modifier info.")
@@ -0,0 +1,272 @@
+package slimeknights.tconstruct.library.client;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.math.Matrix3f;
+import com.mojang.math.Matrix4f;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.util.Mth;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
+import net.minecraftforge.client.extensions.common.IClientFluidTypeExtensions;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidType;
+import slimeknights.mantle.client.model.fluid.FluidCuboid;
+import slimeknights.mantle.client.render.FluidRenderer;
+import slimeknights.mantle.data.listener.ISafeManagerReloadListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Cache of fluid cuboid meshes, so block entities showing the same fluid in the same cuboid skip tessellating it every frame.
+ * Meshes are recorded once in model space by running the normal renderer, then replayed with the current pose.
+ * Animated sprites update in place within the atlas, so the recorded UVs stay valid as the animation plays.
+ */
+public class FluidMeshCache {
+  /** Max number of meshes to keep, least recently used are removed first */
+  private static final int MAX_SIZE = 2048;
+  /** Identity pose used to record meshes */
+  private static final PoseStack IDENTITY = new PoseStack();
+  /** Cached meshes, only accessed from the render thread */
+  private static final Map<Object,Mesh> CACHE = new LinkedHashMap<>(256, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Object,Mesh> eldest) {
+      return size() > MAX_SIZE;
+    }
+  };
+
+  /** Clears the cache when resource packs reload, as sprites and models are replaced */
+  private static final ISafeManagerReloadListener RELOAD_LISTENER = manager -> CACHE.clear();
+
+  private FluidMeshCache() {}
+
+  /** Called during the event to initialize the cache invalidator */
+  public static void init(RegisterClientReloadListenersEvent event) {
+    event.registerReloadListener(RELOAD_LISTENER);
+  }
+
+  /**
+   * Renders a cached mesh into the given builder
+   * @param matrices  Current pose
+   * @param builder   Builder to render into
+   * @param key       Key for the mesh, must contain everything affecting the rendered vertices
+   * @param renderer  Logic to render the mesh on a cache miss
+   */
+  public static void render(PoseStack matrices, VertexConsumer builder, Object key, BiConsumer<PoseStack,VertexConsumer> renderer) {
+    Mesh mesh = CACHE.get(key);
+    if (mesh == null) {
+      Recorder recorder = new Recorder(null);
+      renderer.accept(IDENTITY, recorder);
+      mesh = new Mesh(List.of(recorder.build()));
+      CACHE.put(key, mesh);
+    }
+    mesh.render(matrices, type -> builder);
+  }
+
+  /**
+   * Renders a cached mesh into the given buffer
+   * @param matrices  Current pose
+   * @param buffer    Buffer to render into
+   * @param key       Key for the mesh, must contain everything affecting the rendered vertices
+   * @param renderer  Logic to render the mesh on a cache miss
+   */
+  public static void render(PoseStack matrices, MultiBufferSource buffer, Object key, BiConsumer<PoseStack,MultiBufferSource> renderer) {
+    Mesh mesh = CACHE.get(key);
+    if (mesh == null) {
+      List<Recorder> recorders = new ArrayList<>(1);
+      renderer.accept(IDENTITY, type -> {
+        for (Recorder recorder : recorders) {
+          if (recorder.type == type) {
+            return recorder;
+          }
+        }
+        Recorder recorder = new Recorder(type);
+        recorders.add(recorder);
+        return recorder;
+      });
+      mesh = new Mesh(recorders.stream().map(Recorder::build).toList());
+      CACHE.put(key, mesh);
+    }
+    mesh.render(matrices, buffer);
+  }
+
+
+  /* Common cuboids */
+
+  /** Key for {@link #renderCuboid(PoseStack, VertexConsumer, FluidCuboid, TextureAtlasSprite, TextureAtlasSprite, int, int, boolean)} */
+  private record CuboidKey(FluidCuboid cube, TextureAtlasSprite still, TextureAtlasSprite flowing, int color, int light, boolean isGas) {}
+
+  /** Cached version of {@link FluidRenderer#renderCuboid} with no offset */
+  public static void renderCuboid(PoseStack matrices, VertexConsumer builder, FluidCuboid cube, TextureAtlasSprite still, TextureAtlasSprite flowing, int color, int light, boolean isGas) {
+    render(matrices, builder, new CuboidKey(cube, still, flowing, color, light, isGas),
+           (pose, recorder) -> FluidRenderer.renderCuboid(pose, recorder, cube, 0, still, flowing, color, light, isGas));
+  }
+
+  /** Key for {@link #renderScaledCuboid(PoseStack, MultiBufferSource, FluidCuboid, FluidStack, int, int, boolean)} */
+  private record ScaledCuboidKey(FluidCuboid cube, TextureAtlasSprite still, TextureAtlasSprite flowing, int color, int fluidLight, boolean isGas, int amount, int capacity, int light, boolean flipGas) {}
+
+  /**
+   * Cached version of {@link FluidRenderer#renderScaledCuboid} with no offset, the offset is only used while the fluid is animating.
+   * The fluid height is snapped to whole pixels of the cuboid, so a slowly filling or draining tank reuses the same mesh until it crosses a pixel.
+   */
+  public static void renderScaledCuboid(PoseStack matrices, MultiBufferSource buffer, FluidCuboid cube, FluidStack fluid, int capacity, int light, boolean flipGas) {
+    if (fluid.isEmpty() || capacity <= 0) {
+      return;
+    }
+    // cuboid bounds are in pixels, keep at least a pixel of fluid so small amounts stay visible
+    int pixels = Math.max(1, Math.round(cube.getTo().y() - cube.getFrom().y()));
+    int amount = Mth.clamp(Math.round(fluid.getAmount() * pixels / (float)capacity), 1, pixels) * capacity / pixels;
+    FluidStack scaled = amount == fluid.getAmount() ? fluid : new FluidStack(fluid, amount);
+    // fluid properties are part of the key, dynamic tints or textures will produce a new mesh
+    IClientFluidTypeExtensions attributes = IClientFluidTypeExtensions.of(fluid.getFluid());
+    FluidType fluidType = fluid.getFluid().getFluidType();
+    Object key = new ScaledCuboidKey(cube, FluidRenderer.getBlockSprite(attributes.getStillTexture(fluid)), FluidRenderer.getBlockSprite(attributes.getFlowingTexture(fluid)),
+                                     attributes.getTintColor(fluid), fluidType.getLightLevel(fluid), fluidType.isLighterThanAir(), amount, capacity, light, flipGas);
+    render(matrices, buffer, key, (pose, recorder) -> FluidRenderer.renderScaledCuboid(pose, recorder, cube, scaled, 0, capacity, light, flipGas));
+  }
+
+
+  /* Mesh storage */
+
+  /** Mesh for a single render type */
+  private record Part(RenderType type, int format, int[] data) {}
+
+  /** Full recorded mesh */
+  private record Mesh(List<Part> parts) {
+    /** Replays this mesh with the given pose */
+    void render(PoseStack matrices, MultiBufferSource buffer) {
+      PoseStack.Pose last = matrices.last();
+      Matrix4f pose = last.pose();
+      Matrix3f normal = last.normal();
+      for (Part part : parts) {
+        VertexConsumer builder = buffer.getBuffer(part.type);
+        int format = part.format;
+        int[] data = part.data;
+        for (int i = 0; i < data.length; i += STRIDE) {
+          builder.vertex(pose, Float.intBitsToFloat(data[i]), Float.intBitsToFloat(data[i + 1]), Float.intBitsToFloat(data[i + 2]));
+          if ((format & COLOR) != 0) {
+            int color = data[i + 3];
+            builder.color((color >> 16) & 0xFF, (color >> 8) & 0xFF, color & 0xFF, (color >> 24) & 0xFF);
+          }
+          if ((format & UV) != 0) {
+            builder.uv(Float.intBitsToFloat(data[i + 4]), Float.intBitsToFloat(data[i + 5]));
+          }
+          if ((format & OVERLAY) != 0) {
+            builder.overlayCoords(data[i + 6]);
+          }
+          if ((format & LIGHT) != 0) {
+            builder.uv2(data[i + 7]);
+          }
+          if ((format & NORMAL) != 0) {
+            builder.normal(normal, Float.intBitsToFloat(data[i + 8]), Float.intBitsToFloat(data[i + 9]), Float.intBitsToFloat(data[i + 10]));
+          }
+          builder.endVertex();
+        }
+      }
+    }
+  }
+
+  /* Vertex elements set in the recorded data */
+  private static final int COLOR = 1;
+  private static final int UV = 2;
+  private static final int OVERLAY = 4;
+  private static final int LIGHT = 8;
+  private static final int NORMAL = 16;
+  /** Ints per vertex: position, color, UV, overlay, light, normal */
+  private static final int STRIDE = 11;
+
+  /** Vertex consumer recording all vertices for later replay */
+  private static class Recorder implements VertexConsumer {
+    private final RenderType type;
+    private final IntArrayList data = new IntArrayList();
+    private final int[] vertex = new int[STRIDE];
+    private int format = 0;
+    private int defaultColor = 0;
+    private boolean hasDefaultColor = false;
+
+    private Recorder(RenderType type) {
+      this.type = type;
+    }
+
+    /** Builds the final part */
+    private Part build() {
+      return new Part(type, format, data.toIntArray());
+    }
+
+    @Override
+    public VertexConsumer vertex(double x, double y, double z) {
+      vertex[0] = Float.floatToRawIntBits((float)x);
+      vertex[1] = Float.floatToRawIntBits((float)y);
+      vertex[2] = Float.floatToRawIntBits((float)z);
+      if (hasDefaultColor) {
+        color(defaultColor);
+      }
+      return this;
+    }
+
+    /** Sets the color from a packed ARGB value */
+    private void color(int color) {
+      vertex[3] = color;
+      format |= COLOR;
+    }
+
+    @Override
+    public VertexConsumer color(int red, int green, int blue, int alpha) {
+      color((alpha & 0xFF) << 24 | (red & 0xFF) << 16 | (green & 0xFF) << 8 | (blue & 0xFF));
+      return this;
+    }
+
+    @Override
+    public VertexConsumer uv(float u, float v) {
+      vertex[4] = Float.floatToRawIntBits(u);
+      vertex[5] = Float.floatToRawIntBits(v);
+      format |= UV;
+      return this;
+    }
+
+    @Override
+    public VertexConsumer overlayCoords(int u, int v) {
+      vertex[6] = (u & 0xFFFF) | (v & 0xFFFF) << 16;
+      format |= OVERLAY;
+      return this;
+    }
+
+    @Override
+    public VertexConsumer uv2(int u, int v) {
+      vertex[7] = (u & 0xFFFF) | (v & 0xFFFF) << 16;
+      format |= LIGHT;
+      return this;
+    }
+
+    @Override
+    public VertexConsumer normal(float x, float y, float z) {
+      vertex[8] = Float.floatToRawIntBits(x);
+      vertex[9] = Float.floatToRawIntBits(y);
+      vertex[10] = Float.floatToRawIntBits(z);
+      format |= NORMAL;
+      return this;
+    }
+
+    @Override
+    public void endVertex() {
+      data.addElements(data.size(), vertex);
+    }
+
+    @Override
+    public void defaultColor(int red, int green, int blue, int alpha) {
+      defaultColor = (alpha & 0xFF) << 24 | (red & 0xFF) << 16 | (green & 0xFF) << 8 | (blue & 0xFF);
+      hasDefaultColor = true;
+    }
+
+    @Override
+    public void unsetDefaultColor() {
+      hasDefaultColor = false;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package slimeknights.tconstruct.library.client;
 
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import net.minecraft.client.renderer.GameRenderer;
@@ -78,9 +79,21 @@ public final class RenderUtils {
       // clear bits in color and or in the new alpha
       color = (color & 0xFFFFFF) | (alpha << 24);
     }
-    FluidRenderer.renderCuboid(matrices, buffer.getBuffer(MantleRenderTypes.FLUID), cube, still, flowing, cube.getFromScaled(), cube.getToScaled(), color, light, isGas);
+    VertexConsumer builder = buffer.getBuffer(MantleRenderTypes.FLUID);
+    if (opacity == 0xFF) {
+      // opacity only changes while fading out, so only cache the opaque cuboid
+      int opaqueColor = color;
+      int opaqueLight = light;
+      FluidMeshCache.render(matrices, builder, new TransparentCuboidKey(cube, still, flowing, color, light, isGas),
+                            (pose, recorder) -> FluidRenderer.renderCuboid(pose, recorder, cube, still, flowing, cube.getFromScaled(), cube.getToScaled(), opaqueColor, opaqueLight, isGas));
+    } else {
+      FluidRenderer.renderCuboid(matrices, builder, cube, still, flowing, cube.getFromScaled(), cube.getToScaled(), color, light, isGas);
+    }
   }
 
+  /** Key for a cached opaque cuboid from {@link #renderTransparentCuboid(PoseStack, MultiBufferSource, FluidCuboid, FluidStack, int, int)} */
+  private record TransparentCuboidKey(FluidCuboid cube, TextureAtlasSprite still, TextureAtlasSprite flowing, int color, int light, boolean isGas) {}
+
   /**
    * Add textured quads for a fluid tank
    * @param matrices      Matrix stack instance
@@ -105,8 +118,12 @@ public final class RenderUtils {
         tank.setRenderOffset(0);
       }
 
-      // fetch fluid information from the model
-      FluidRenderer.renderScaledCuboid(matrices, buffer, cube, liquid, offset, capacity, light, flipGas);
+      // fetch fluid information from the model, if not animating the mesh can be cached
+      if (offset == 0) {
+        FluidMeshCache.renderScaledCuboid(matrices, buffer, cube, liquid, capacity, light, flipGas);
+      } else {
+        FluidRenderer.renderScaledCuboid(matrices, buffer, cube, liquid, offset, capacity, light, flipGas);
+      }
     } else {
       // clear render offet if no liquid
       tank.setRenderOffset(0);
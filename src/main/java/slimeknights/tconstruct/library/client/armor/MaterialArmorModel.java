@@ -1,9 +1,11 @@
 package slimeknights.tconstruct.library.client.armor;
 
+import com.google.common.collect.MapMaker;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import net.minecraft.client.model.HumanoidModel;
 import net.minecraft.client.model.Model;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.world.entity.EquipmentSlot;
@@ -16,40 +18,74 @@ import slimeknights.tconstruct.library.tools.item.armor.texture.ArmorTextureSupp
 import slimeknights.tconstruct.library.tools.item.armor.texture.MaterialArmorTextureSupplier.MaterialSetCache;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 
+import java.util.Arrays;
+import java.util.Map;
+
 /** Model for armor with multiple materials */
 public class MaterialArmorModel extends AbstractArmorModel {
   public static final MaterialArmorModel INSTANCE = new MaterialArmorModel();
 
+  /** Material list used for stacks with no materials */
+  private static final ListTag NO_MATERIALS = new ListTag();
+
   /** Number of materials to render */
   private int expectedMaterials = 1;
-  /** Texture cache for material armor */
-  private MaterialSetCache cache;
-  /** List of materials on the item */
-  private ListTag materials = new ListTag();
+  /** Textures for the current stack, indexed by texture type then material index */
+  private ArmorTexture[][] textures = new ArmorTexture[0][];
+  /** Resolved textures by material list, weak identity keys so lists replaced on the stack are released. Tool rebuilds replace the list so identity is enough */
+  private final Map<ListTag,ResolvedTextures> resolved = new MapMaker().weakKeys().makeMap();
+
+  /** Textures resolved for a material list */
+  private record ResolvedTextures(MaterialSetCache cache, int size, int version, ArmorTexture[][] textures) {
+    /** Checks if these textures are still valid */
+    boolean matches(MaterialSetCache cache, int size) {
+      return this.cache == cache && this.size == size && this.version == cache.getVersion();
+    }
+  }
 
   private MaterialArmorModel() {}
 
+  /** Gets the textures for the given material list */
+  private ArmorTexture[][] getTextures(ListTag materials, MaterialSetCache cache) {
+    ResolvedTextures textures = resolved.get(materials);
+    if (textures == null || !textures.matches(cache, expectedMaterials)) {
+      // materials missing from the list resolve as empty strings, same as reading the tag directly
+      String[] names = new String[expectedMaterials];
+      for (int i = 0; i < expectedMaterials; i++) {
+        names[i] = materials.getString(i);
+      }
+      textures = new ResolvedTextures(cache, expectedMaterials, cache.getVersion(), cache.getTextures(Arrays.asList(names)));
+      resolved.put(materials, textures);
+    }
+    return textures.textures;
+  }
+
   /** Setup the model for the current properties */
   public Model setup(LivingEntity living, ItemStack stack, EquipmentSlot slot, HumanoidModel<?> base, ToolDefinition definition, MaterialSetCache cache) {
     this.setup(living, stack, slot, base);
     this.expectedMaterials = ToolMaterialHook.stats(definition).size();
     cache.checkSize(expectedMaterials);
-    this.cache = cache;
-    this.materials = stack.getOrCreateTag().getList(ToolStack.TAG_MATERIALS, Tag.TAG_STRING);
+    CompoundTag tag = stack.getTag();
+    ListTag materials = NO_MATERIALS;
+    if (tag != null && tag.contains(ToolStack.TAG_MATERIALS, Tag.TAG_LIST)) {
+      materials = tag.getList(ToolStack.TAG_MATERIALS, Tag.TAG_STRING);
+    }
+    this.textures = getTextures(materials, cache);
     return this;
   }
 
   @Override
   public void renderToBuffer(PoseStack matrices, VertexConsumer bufferIn, int packedLightIn, int packedOverlayIn, float red, float green, float blue, float alpha) {
-    if (this.base != null && buffer != null && cache != null) {
+    if (this.base != null && buffer != null && textures.length > 0) {
+      ArmorTexture[] layer = textures[textureType.ordinal()];
+      ArmorTexture[] wings = textures[TextureType.WINGS.ordinal()];
       for (int i = 0; i < expectedMaterials; i++) {
-        String material = materials.getString(i);
-        ArmorTexture texture = this.cache.getTexture(material, i, textureType);
+        ArmorTexture texture = layer[i];
         if (texture != ArmorTexture.EMPTY) {
           renderTexture(base, matrices, packedLightIn, packedOverlayIn, texture, red, green, blue, alpha);
         }
         if (hasWings) {
-          texture = this.cache.getTexture(material, i, TextureType.WINGS);
+          texture = wings[i];
           if (texture != ArmorTexture.EMPTY) {
             renderWings(matrices, packedLightIn, packedOverlayIn, texture, red, green, blue, alpha);
           }
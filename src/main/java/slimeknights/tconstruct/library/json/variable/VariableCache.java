@@ -0,0 +1,101 @@
+package slimeknights.tconstruct.library.json.variable;
+
+import it.unimi.dsi.fastutil.objects.Object2FloatMap;
+import it.unimi.dsi.fastutil.objects.Object2FloatOpenHashMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tick scoped cache for variables that query the world, shared between all formulas evaluated in the same tick.
+ * Values are keyed on the variable and position, and are discarded once the level or its game time changes.
+ * Each thread has its own cache, so the client and server in single player never share values.
+ * The level is held weakly, so a cache left on a thread never keeps an unloaded level alive.
+ * Entity variables are not cached, as attributes, effects, and health all change mid tick without an event to invalidate on.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class VariableCache {
+  /** Cache for the current thread */
+  private static final ThreadLocal<VariableCache> CACHE = ThreadLocal.withInitial(VariableCache::new);
+  /** Number of lookups that found a cached value */
+  private static final LongAdder HITS = new LongAdder();
+  /** Number of lookups that computed the value */
+  private static final LongAdder MISSES = new LongAdder();
+
+  /** Level for the cached values */
+  private WeakReference<Level> level = new WeakReference<>(null);
+  /** Game time for the cached values */
+  private long gameTime;
+  /** Cached values */
+  private final Object2FloatMap<Object> values = new Object2FloatOpenHashMap<>();
+
+  /** Gets the cache for the given level, clearing it if the tick changed */
+  private static VariableCache get(Level level) {
+    VariableCache cache = CACHE.get();
+    long gameTime = level.getGameTime();
+    if (cache.level.get() != level || cache.gameTime != gameTime) {
+      cache.level = new WeakReference<>(level);
+      cache.gameTime = gameTime;
+      cache.values.clear();
+    }
+    return cache;
+  }
+
+  /** Gets a value from the cache, computing it if missing */
+  private float getOrCompute(Object key, ToFloatFunction<Object> getter) {
+    if (values.containsKey(key)) {
+      HITS.increment();
+      return values.getFloat(key);
+    }
+    MISSES.increment();
+    float value = getter.apply(key);
+    values.put(key, value);
+    return value;
+  }
+
+  /**
+   * Gets the value of a variable at a position, reusing the value from earlier in the tick if possible.
+   * @param variable  Variable to evaluate, must have a meaningful equals as it is part of the key
+   * @param level     Level containing the position
+   * @param pos       Position to evaluate
+   * @param getter    Logic to compute the value if not cached
+   * @return  Variable value
+   */
+  public static float getValue(Object variable, Level level, BlockPos pos, ToFloatFunction<BlockPos> getter) {
+    return get(level).getOrCompute(new PosKey(variable, pos.asLong()), key -> getter.apply(pos));
+  }
+
+
+
+  /* Instrumentation */
+
+  /** Gets the number of lookups that found a cached value since the last reset */
+  public static long getHits() {
+    return HITS.sum();
+  }
+
+  /** Gets the number of lookups that computed the value since the last reset */
+  public static long getMisses() {
+    return MISSES.sum();
+  }
+
+  /** Gets the fraction of lookups that found a cached value, or 0 if nothing was looked up */
+  public static float getHitRate() {
+    long hits = HITS.sum();
+    long total = hits + MISSES.sum();
+    return total == 0 ? 0 : (float)hits / total;
+  }
+
+  /** Resets the hit and miss counters */
+  public static void resetStats() {
+    HITS.reset();
+    MISSES.reset();
+  }
+
+  /** Key for positional variables */
+  private record PosKey(Object variable, long pos) {}
+}
@@ -1,10 +1,12 @@
 package slimeknights.tconstruct.library.json.variable.entity;
 
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LightLayer;
 import slimeknights.mantle.data.loadable.record.RecordLoadable;
 import slimeknights.mantle.data.registry.GenericLoaderRegistry.IGenericLoader;
 import slimeknights.tconstruct.library.json.TinkerLoadables;
+import slimeknights.tconstruct.library.json.variable.VariableCache;
 
 /** Gets the light level at the entity position */
 public record EntityLightVariable(LightLayer lightLayer) implements EntityVariable {
@@ -12,7 +14,9 @@ public record EntityLightVariable(LightLayer lightLayer) implements EntityVariab
 
   @Override
   public float getValue(LivingEntity entity) {
-    return entity.level.getBrightness(lightLayer, entity.blockPosition());
+    // cached by position rather than entity, as the entity may move mid tick
+    Level level = entity.level;
+    return VariableCache.getValue(this, level, entity.blockPosition(), pos -> level.getBrightness(lightLayer, pos));
   }
 
   @Override
@@ -2,12 +2,14 @@ package slimeknights.tconstruct.library.json.variable.mining;
 
 import net.minecraft.core.Direction;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LightLayer;
 import net.minecraftforge.event.entity.player.PlayerEvent.BreakSpeed;
 import slimeknights.mantle.data.loadable.primitive.FloatLoadable;
 import slimeknights.mantle.data.loadable.record.RecordLoadable;
 import slimeknights.mantle.data.registry.GenericLoaderRegistry.IGenericLoader;
 import slimeknights.tconstruct.library.json.TinkerLoadables;
+import slimeknights.tconstruct.library.json.variable.VariableCache;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 
 import javax.annotation.Nullable;
@@ -27,7 +29,8 @@ public record BlockLightVariable(LightLayer lightLayer, float fallback) implemen
   public float getValue(IToolStackView tool, @Nullable BreakSpeed event, @Nullable Player player, @Nullable Direction sideHit) {
     if (player != null) {
       // use block position if possible player position otherwise
-      return player.level.getBrightness(lightLayer, event != null && sideHit != null ? event.getPos().relative(sideHit) : player.blockPosition());
+      Level level = player.level;
+      return VariableCache.getValue(this, level, event != null && sideHit != null ? event.getPos().relative(sideHit) : player.blockPosition(), pos -> level.getBrightness(lightLayer, pos));
     }
     return fallback;
   }
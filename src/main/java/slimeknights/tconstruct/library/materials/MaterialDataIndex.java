@@ -0,0 +1,126 @@
+package slimeknights.tconstruct.library.materials;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import lombok.Getter;
+import slimeknights.tconstruct.library.materials.definition.IMaterial;
+import slimeknights.tconstruct.library.materials.definition.MaterialId;
+import slimeknights.tconstruct.library.materials.stats.IMaterialStats;
+import slimeknights.tconstruct.library.materials.stats.MaterialStatsId;
+import slimeknights.tconstruct.library.materials.stats.MaterialStatsManager;
+import slimeknights.tconstruct.library.materials.traits.MaterialTraitsManager;
+import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable index of material stats and traits for all loaded materials.
+ * Each material and stat type is assigned a dense ordinal when built, and lookups resolve to a 2D array instead of nested maps.
+ * A new index is built after each reload and swapped in whole, so readers never see a partial index.
+ */
+class MaterialDataIndex {
+  /** Load version from {@link MaterialRegistry#getLoadVersion()} this index was built against */
+  @Getter
+  private final int version;
+  /** Ordinal for each material */
+  private final Object2IntMap<MaterialId> materialOrdinals;
+  /** Ordinal for each stat type */
+  private final Object2IntMap<MaterialStatsId> statOrdinals;
+  /** Stats by material ordinal then stat ordinal, empty optional if the material lacks the stat type */
+  private final Optional<?>[][] stats;
+  /** Traits by material ordinal then stat ordinal, includes fallback traits */
+  private final List<?>[][] traits;
+
+  private MaterialDataIndex(int version, Object2IntMap<MaterialId> materialOrdinals, Object2IntMap<MaterialStatsId> statOrdinals, Optional<?>[][] stats, List<?>[][] traits) {
+    this.version = version;
+    this.materialOrdinals = materialOrdinals;
+    this.statOrdinals = statOrdinals;
+    this.stats = stats;
+    this.traits = traits;
+  }
+
+  /**
+   * Builds a new index from the given managers
+   * @param version         Load version at the start of building
+   * @param materials       All loaded materials
+   * @param statsManager    Stats source
+   * @param traitsManager   Traits source
+   * @return  Index instance
+   */
+  static MaterialDataIndex build(int version, Collection<IMaterial> materials, MaterialStatsManager statsManager, MaterialTraitsManager traitsManager) {
+    // first pass assigns ordinals
+    Object2IntMap<MaterialId> materialOrdinals = new Object2IntOpenHashMap<>(materials.size());
+    materialOrdinals.defaultReturnValue(-1);
+    Object2IntMap<MaterialStatsId> statOrdinals = new Object2IntOpenHashMap<>();
+    statOrdinals.defaultReturnValue(-1);
+    for (IMaterial material : materials) {
+      MaterialId id = material.getIdentifier();
+      if (!materialOrdinals.containsKey(id)) {
+        materialOrdinals.put(id, materialOrdinals.size());
+        for (IMaterialStats stat : statsManager.getAllStats(id)) {
+          MaterialStatsId statId = stat.getIdentifier();
+          if (!statOrdinals.containsKey(statId)) {
+            statOrdinals.put(statId, statOrdinals.size());
+          }
+        }
+      }
+    }
+
+    // second pass fills the arrays
+    MaterialStatsId[] statIds = new MaterialStatsId[statOrdinals.size()];
+    for (Object2IntMap.Entry<MaterialStatsId> entry : statOrdinals.object2IntEntrySet()) {
+      statIds[entry.getIntValue()] = entry.getKey();
+    }
+    Optional<?>[][] stats = new Optional<?>[materialOrdinals.size()][];
+    List<?>[][] traits = new List<?>[materialOrdinals.size()][];
+    for (Object2IntMap.Entry<MaterialId> entry : materialOrdinals.object2IntEntrySet()) {
+      MaterialId materialId = entry.getKey();
+      Optional<?>[] materialStats = new Optional<?>[statIds.length];
+      Arrays.fill(materialStats, Optional.empty());
+      for (IMaterialStats stat : statsManager.getAllStats(materialId)) {
+        materialStats[statOrdinals.getInt(stat.getIdentifier())] = Optional.of(stat);
+      }
+      List<?>[] materialTraits = new List<?>[statIds.length];
+      for (int i = 0; i < statIds.length; i++) {
+        materialTraits[i] = traitsManager.getTraits(materialId, statIds[i]);
+      }
+      stats[entry.getIntValue()] = materialStats;
+      traits[entry.getIntValue()] = materialTraits;
+    }
+    return new MaterialDataIndex(version, materialOrdinals, statOrdinals, stats, traits);
+  }
+
+  /**
+   * Gets the stats for the given material and stat type
+   * @return  Stats optional, or null if the pair is not indexed
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  <T extends IMaterialStats> Optional<T> getStats(MaterialId materialId, MaterialStatsId statsId) {
+    int material = materialOrdinals.getInt(materialId);
+    int stat = statOrdinals.getInt(statsId);
+    if (material == -1 || stat == -1) {
+      return null;
+    }
+    return (Optional<T>) stats[material][stat];
+  }
+
+  /**
+   * Gets the traits for the given material and stat type
+   * @return  Traits list, or null if the pair is not indexed
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  List<ModifierEntry> getTraits(MaterialId materialId, MaterialStatsId statsId) {
+    int material = materialOrdinals.getInt(materialId);
+    int stat = statOrdinals.getInt(statsId);
+    if (material == -1 || stat == -1) {
+      return null;
+    }
+    return (List<ModifierEntry>) traits[material][stat];
+  }
+}
@@ -59,6 +59,8 @@ public final class MaterialRegistry {
   /** True if the material registry is fully loaded on the client */
   @VisibleForTesting
   static boolean fullyLoaded = false;
+  /** Incremented each time materials, stats, or traits load, allows caches of material data to detect reloads */
+  private static volatile int loadVersion = 0;
 
   public static IMaterialRegistry getInstance() {
     return INSTANCE.registry;
@@ -76,6 +78,11 @@ public final class MaterialRegistry {
     // DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> MinecraftForge.EVENT_BUS.addListener(EventPriority.NORMAL, false, LoggedOutEvent.class, e -> fullyLoaded = false));
   }
 
+  /** Gets a number that changes every time materials, stats, and traits reload */
+  public static int getLoadVersion() {
+    return loadVersion;
+  }
+
   /**
    * Returns true if the material registry is initialized
    * @return  True when initialized
@@ -198,6 +205,8 @@ public final class MaterialRegistry {
 
   /** Checks if all three material types have loaded, running callbacks if they have */
   private static void checkAllLoaded() {
+    // any of the three loading invalidates cached material data
+    loadVersion++;
     if (materialsLoaded && statsLoaded && traitsLoaded) {
       materialsLoaded = false;
       statsLoaded = false;
@@ -232,6 +241,7 @@ public final class MaterialRegistry {
       // if the packet is being sent to ourself, skip sending, prevents recreating all material instances in the registry a second time on dedicated servers
       // note it will still send the packet if another client connects in LAN
       fullyLoaded = true;
+      loadVersion++;
       MinecraftForge.EVENT_BUS.post(new MaterialsLoadedEvent());
     } else {
       TinkerNetwork network = TinkerNetwork.getInstance();
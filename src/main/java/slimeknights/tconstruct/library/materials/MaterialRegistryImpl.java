@@ -28,6 +28,9 @@ public class MaterialRegistryImpl implements IMaterialRegistry {
   private final MaterialManager materialManager;
   private final MaterialStatsManager materialStatsManager;
   private final MaterialTraitsManager materialTraitsManager;
+  /** Dense index of stats and traits, rebuilt after materials reload */
+  @Nullable
+  private volatile MaterialDataIndex index = null;
 
   protected MaterialRegistryImpl(MaterialManager materialManager, MaterialStatsManager materialStatsManager, MaterialTraitsManager materialTraitsManager) {
     this.materialManager = materialManager;
@@ -36,6 +39,28 @@ public class MaterialRegistryImpl implements IMaterialRegistry {
   }
 
 
+  /* Index */
+
+  /**
+   * Gets the stats and traits index, rebuilding it if materials reloaded since it was built
+   * @return  Index, or null if materials are not fully loaded
+   */
+  @Nullable
+  private MaterialDataIndex getIndex() {
+    int version = MaterialRegistry.getLoadVersion();
+    MaterialDataIndex index = this.index;
+    if (index == null || index.getVersion() != version) {
+      // while partially loaded, the managers may disagree, so just use them directly
+      if (!MaterialRegistry.isFullyLoaded()) {
+        return null;
+      }
+      index = MaterialDataIndex.build(version, materialManager.getAllMaterials(), materialStatsManager, materialTraitsManager);
+      this.index = index;
+    }
+    return index;
+  }
+
+
   /* Materials */
 
   @Override
@@ -88,6 +113,13 @@ public class MaterialRegistryImpl implements IMaterialRegistry {
 
   @Override
   public <T extends IMaterialStats> Optional<T> getMaterialStats(MaterialId materialId, MaterialStatsId statsId) {
+    MaterialDataIndex index = getIndex();
+    if (index != null) {
+      Optional<T> stats = index.getStats(materialId, statsId);
+      if (stats != null) {
+        return stats;
+      }
+    }
     return materialStatsManager.getStats(materialId, statsId);
   }
 
@@ -124,6 +156,13 @@ public class MaterialRegistryImpl implements IMaterialRegistry {
 
   @Override
   public List<ModifierEntry> getTraits(MaterialId materialId, MaterialStatsId statsId) {
+    MaterialDataIndex index = getIndex();
+    if (index != null) {
+      List<ModifierEntry> traits = index.getTraits(materialId, statsId);
+      if (traits != null) {
+        return traits;
+      }
+    }
     return materialTraitsManager.getTraits(materialId, statsId);
   }
 }
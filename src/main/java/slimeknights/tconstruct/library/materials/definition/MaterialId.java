@@ -3,6 +3,7 @@ package slimeknights.tconstruct.library.materials.definition;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
 import slimeknights.tconstruct.library.tools.part.IMaterialItem;
+import slimeknights.tconstruct.library.utils.IdInterner;
 import slimeknights.tconstruct.library.utils.IdParser;
 
 import javax.annotation.Nullable;
@@ -11,7 +12,9 @@ import javax.annotation.Nullable;
  * This is just a copy of ResourceLocation for type safety.
  */
 public final class MaterialId extends ResourceLocation implements MaterialVariantId {
-  public static final IdParser<MaterialId> PARSER = new IdParser<>(MaterialId::new, "Material");
+  public static final IdParser<MaterialId> PARSER = new IdParser<>(MaterialId::intern, "Material");
+  /** Intern pool for parsed material IDs, loaded materials are added by {@link MaterialManager} */
+  static final IdInterner<MaterialId> INTERNER = new IdInterner<>("Material", new IdParser<>(MaterialId::new, "Material")::tryParse);
 
   public MaterialId(String resourceName) {
     super(resourceName);
@@ -70,10 +73,20 @@ public final class MaterialId extends ResourceLocation implements MaterialVarian
   /**
    * Creates a new material ID from the given string
    * @param string  String
-   * @return  Material ID, or null if invalid
+   * @return  Interned material ID, or null if invalid
    */
   @Nullable
   public static MaterialId tryParse(String string) {
-    return PARSER.tryParse(string);
+    return INTERNER.tryParse(string);
+  }
+
+  /**
+   * Parses a material ID, reusing the instance from any previous parse of the same string
+   * @param string  String
+   * @return  Interned material ID
+   * @throws net.minecraft.ResourceLocationException if the string is invalid
+   */
+  public static MaterialId intern(String string) {
+    return INTERNER.parse(string);
   }
 }
@@ -37,6 +37,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNullElse;
 
@@ -156,6 +157,9 @@ public class MaterialManager extends SimpleJsonResourceReloadListener {
    * Recreates the fluid lookup and sorted list using the new materials list
    */
   private void onMaterialUpdate() {
+    // loaded IDs become the canonical instances for parsing, which lets NBT and packets share them
+    MaterialId.INTERNER.setRegistered(Stream.concat(this.materials.keySet().stream(), this.redirects.keySet().stream()).toList());
+    MaterialVariantIdImpl.INTERNER.clear();
     this.sortedMaterials = this.materials.values().stream()
                                          .filter(mat -> !mat.isHidden())
                                          .sorted().collect(Collectors.toList());
@@ -86,25 +86,12 @@ public sealed interface MaterialVariantId permits MaterialId, MaterialVariantIdI
   }
 
   /**
-   * Attempts to parse the variant ID from the given string
+   * Attempts to parse the variant ID from the given string, reusing the instance from any previous parse of the same string
    * @return Variant ID, or null if invalid
    */
   @Nullable
   static MaterialVariantId tryParse(String string) {
-    int index = string.indexOf('#');
-    String variant = "";
-    if (index >= 0) {
-      variant = string.substring(index + 1);
-      if (!ResourceLocation.isValidPath(variant)) {
-        return null;
-      }
-      string = string.substring(0, index);
-    }
-    MaterialId materialId = MaterialId.tryParse(string);
-    if (materialId == null) {
-      return null;
-    }
-    return create(materialId, variant);
+    return MaterialVariantIdImpl.INTERNER.tryParse(string);
   }
 
   /**
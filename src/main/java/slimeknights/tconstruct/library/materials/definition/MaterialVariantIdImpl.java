@@ -1,9 +1,33 @@
 package slimeknights.tconstruct.library.materials.definition;
 
 import net.minecraft.resources.ResourceLocation;
+import slimeknights.tconstruct.library.utils.IdInterner;
+
+import javax.annotation.Nullable;
 
 /** Internal record to represent a material ID with a variant. Use {@link MaterialVariantId} to create if needed */
 record MaterialVariantIdImpl(MaterialId material, String variant) implements MaterialVariantId {
+  /** Intern pool for parsed variant IDs */
+  static final IdInterner<MaterialVariantId> INTERNER = new IdInterner<>("Material Variant", MaterialVariantIdImpl::parseUncached);
+
+  /** Parses a variant ID without checking the intern pool, the material ID is still interned */
+  @Nullable
+  static MaterialVariantId parseUncached(String string) {
+    int index = string.indexOf('#');
+    String variant = "";
+    if (index >= 0) {
+      variant = string.substring(index + 1);
+      if (!ResourceLocation.isValidPath(variant)) {
+        return null;
+      }
+      string = string.substring(0, index);
+    }
+    MaterialId materialId = MaterialId.tryParse(string);
+    if (materialId == null) {
+      return null;
+    }
+    return MaterialVariantId.create(materialId, variant);
+  }
 
   @Override
   public MaterialId getId() {
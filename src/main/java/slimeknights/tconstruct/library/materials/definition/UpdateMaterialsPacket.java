@@ -27,7 +27,7 @@ public class UpdateMaterialsPacket implements IThreadsafePacket {
     ImmutableMap.Builder<MaterialId,IMaterial> materials = ImmutableMap.builder();
 
     for (int i = 0; i < materialCount; i++) {
-      MaterialId id = new MaterialId(buffer.readResourceLocation());
+      MaterialId id = MaterialId.PARSER.decode(buffer);
       int tier = buffer.readVarInt();
       int sortOrder = buffer.readVarInt();
       boolean craftable = buffer.readBoolean();
@@ -42,10 +42,10 @@ public class UpdateMaterialsPacket implements IThreadsafePacket {
     } else {
       this.redirects = new HashMap<>(redirectCount);
       for (int i = 0; i < redirectCount; i++) {
-        this.redirects.put(new MaterialId(buffer.readUtf()), new MaterialId(buffer.readUtf()));
+        this.redirects.put(MaterialId.intern(buffer.readUtf()), MaterialId.intern(buffer.readUtf()));
       }
     }
-    this.tags = GenericTagUtil.decodeTags(buffer, MaterialManager.REGISTRY_KEY, id -> this.materials.get(new MaterialId(id)));
+    this.tags = GenericTagUtil.decodeTags(buffer, MaterialManager.REGISTRY_KEY, MaterialId.PARSER, this.materials::get);
   }
 
   @Override
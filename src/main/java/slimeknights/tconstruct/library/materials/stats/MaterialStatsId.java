@@ -3,6 +3,7 @@ package slimeknights.tconstruct.library.materials.stats;
 import net.minecraft.resources.ResourceLocation;
 import slimeknights.tconstruct.library.materials.MaterialRegistry;
 import slimeknights.tconstruct.library.materials.definition.MaterialId;
+import slimeknights.tconstruct.library.utils.IdInterner;
 import slimeknights.tconstruct.library.utils.IdParser;
 
 import javax.annotation.Nullable;
@@ -11,7 +12,9 @@ import javax.annotation.Nullable;
  * This is just a copy of ResourceLocation for type safety.
  */
 public class MaterialStatsId extends ResourceLocation {
-  public static final IdParser<MaterialStatsId> PARSER = new IdParser<>(MaterialStatsId::new, "Material Stat Type");
+  public static final IdParser<MaterialStatsId> PARSER = new IdParser<>(MaterialStatsId::intern, "Material Stat Type");
+  /** Intern pool for parsed stat type IDs, registered stat types are added by {@link MaterialStatsManager} */
+  static final IdInterner<MaterialStatsId> INTERNER = new IdInterner<>("Material Stat Type", new IdParser<>(MaterialStatsId::new, "Material Stat Type")::tryParse);
 
   public MaterialStatsId(String text) {
     super(text);
@@ -28,11 +31,21 @@ public class MaterialStatsId extends ResourceLocation {
   /**
    * Creates a new material stat ID from the given string
    * @param string  String
-   * @return  Material ID, or null if invalid
+   * @return  Interned stat type ID, or null if invalid
    */
   @Nullable
   public static MaterialStatsId tryParse(String string) {
-    return PARSER.tryParse(string);
+    return INTERNER.tryParse(string);
+  }
+
+  /**
+   * Parses a material stat ID, reusing the instance from any previous parse of the same string
+   * @param string  String
+   * @return  Interned stat type ID
+   * @throws net.minecraft.ResourceLocationException if the string is invalid
+   */
+  public static MaterialStatsId intern(String string) {
+    return INTERNER.parse(string);
   }
 
   /** Checks if the given material can be used */
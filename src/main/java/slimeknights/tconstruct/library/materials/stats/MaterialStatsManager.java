@@ -69,6 +69,7 @@ public class MaterialStatsManager extends MergingJsonDataLoader<Map<ResourceLoca
    */
   public <T extends IMaterialStats> void registerStatType(MaterialStatType<T> type) {
     statTypes.register(type);
+    MaterialStatsId.INTERNER.register(type.getId());
   }
 
   /**
@@ -197,7 +198,7 @@ public class MaterialStatsManager extends MergingJsonDataLoader<Map<ResourceLoca
         log.error("The material stat of type '" + statType + "' has not been registered");
         continue;
       }
-      builder.put(statType, type.getLoadable().deserialize(entry.getValue(), TypedMapBuilder.builder().put(MaterialStatType.CONTEXT_KEY, type).build()));
+      builder.put(type.getId(), type.getLoadable().deserialize(entry.getValue(), TypedMapBuilder.builder().put(MaterialStatType.CONTEXT_KEY, type).build()));
     }
     return builder.build();
   }
@@ -1,5 +1,6 @@
 package slimeknights.tconstruct.library.materials.stats;
 
+import io.netty.handler.codec.DecoderException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import net.minecraft.network.FriendlyByteBuf;
@@ -10,12 +11,12 @@ import slimeknights.mantle.network.packet.IThreadsafePacket;
 import slimeknights.mantle.util.typed.TypedMapBuilder;
 import slimeknights.tconstruct.library.materials.MaterialRegistry;
 import slimeknights.tconstruct.library.materials.definition.MaterialId;
+import slimeknights.tconstruct.library.utils.IdTable;
 import slimeknights.tconstruct.library.utils.Util;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Getter
@@ -30,42 +31,65 @@ public class UpdateMaterialStatsPacket implements IThreadsafePacket {
   }
 
   public UpdateMaterialStatsPacket(FriendlyByteBuf buffer, Loadable<MaterialStatType<?>> statTypeLoader) {
-    int materialCount = buffer.readInt();
+    // stat types repeat for every material, so each is sent and looked up once, unknown types are null
+    IdTable.Reader<MaterialStatType<?>> statTypes = IdTable.Reader.read(buffer, buf -> {
+      try {
+        return statTypeLoader.decode(buf);
+      } catch (Exception e) {
+        log.error("Could not deserialize stat type. Are client and server in sync?", e);
+        return null;
+      }
+    });
+    int materialCount = buffer.readVarInt();
     materialToStats = new HashMap<>(materialCount);
     for (int i = 0; i < materialCount; i++) {
-      MaterialId id = new MaterialId(buffer.readResourceLocation());
-      int statCount = buffer.readInt();
-      List<IMaterialStats> statList = new ArrayList<>();
+      MaterialId id = MaterialId.PARSER.decode(buffer);
+      int statCount = buffer.readVarInt();
+      IMaterialStats[] stats = new IMaterialStats[statCount];
+      int read = 0;
       for (int j = 0; j < statCount; j++) {
+        MaterialStatType<?> statType = statTypes.read(buffer);
+        if (statType == null) {
+          // without the type, we cannot tell how long the stat is, so the rest of the packet is unreadable
+          throw new DecoderException("Could not deserialize stat for material " + id + ", unknown stat type");
+        }
         try {
-          MaterialStatType<?> statType = statTypeLoader.decode(buffer);
-          statList.add(statType.getLoadable().decode(buffer, TypedMapBuilder.builder().put(MaterialStatType.CONTEXT_KEY, statType).build()));
+          stats[read] = statType.getLoadable().decode(buffer, TypedMapBuilder.builder().put(MaterialStatType.CONTEXT_KEY, statType).build());
+          read++;
         } catch (Exception e) {
           log.error("Could not deserialize stat. Are client and server in sync?", e);
         }
       }
-      materialToStats.put(id, statList);
+      materialToStats.put(id, read == statCount ? Arrays.asList(stats) : Arrays.asList(Arrays.copyOf(stats, read)));
     }
   }
 
   @Override
   public void encode(FriendlyByteBuf buffer) {
-    buffer.writeInt(materialToStats.size());
+    IdTable.Writer<MaterialStatType<?>> statTypes = new IdTable.Writer<>();
+    for (Collection<IMaterialStats> stats : materialToStats.values()) {
+      for (IMaterialStats stat : stats) {
+        statTypes.add(stat.getType());
+      }
+    }
+    statTypes.writeTable(buffer, (buf, type) -> MaterialStatsId.PARSER.encode(buf, type.getId()));
+    buffer.writeVarInt(materialToStats.size());
     materialToStats.forEach((materialId, stats) -> {
       buffer.writeResourceLocation(materialId);
-      buffer.writeInt(stats.size());
-      stats.forEach(stat -> encodeStat(buffer, stat, stat.getType()));
+      buffer.writeVarInt(stats.size());
+      stats.forEach(stat -> encodeStat(buffer, statTypes, stat, stat.getType()));
     });
   }
 
   /**
    * Encodes a single material stat
-   * @param buffer  Buffer instance
-   * @param stat    Stat to encode
+   * @param buffer     Buffer instance
+   * @param statTypes  Stat type table
+   * @param stat       Stat to encode
    */
   @SuppressWarnings("unchecked")
-  private <T extends IMaterialStats> void encodeStat(FriendlyByteBuf buffer, IMaterialStats stat, MaterialStatType<T> type) {
-    MaterialStatsId.PARSER.encode(buffer, type.getId());
+  private <T extends IMaterialStats> void encodeStat(FriendlyByteBuf buffer, IdTable.Writer<MaterialStatType<?>> statTypes, IMaterialStats stat, MaterialStatType<T> type) {
+    statTypes.write(buffer, type);
     type.getLoadable().encode(buffer, (T) stat);
   }
 
@@ -1,6 +1,5 @@
 package slimeknights.tconstruct.library.materials.traits;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -10,6 +9,8 @@ import net.minecraft.resources.ResourceLocation;
 import slimeknights.tconstruct.library.materials.json.MaterialTraitsJson;
 import slimeknights.tconstruct.library.materials.stats.MaterialStatsId;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierId;
+import slimeknights.tconstruct.library.utils.IdTable;
 
 import javax.annotation.Nullable;
 import java.util.Collections;
@@ -46,32 +47,56 @@ public class MaterialTraits {
     return traitsPerStats.getOrDefault(statsId, defaultTraits);
   }
 
+  /**
+   * Adds all IDs used by this object to the packet ID tables
+   * @param statIds      Stat type ID table
+   * @param modifierIds  Modifier ID table
+   */
+  public void addIds(IdTable.Writer<MaterialStatsId> statIds, IdTable.Writer<ModifierId> modifierIds) {
+    for (ModifierEntry entry : defaultTraits) {
+      modifierIds.add(entry.getId());
+    }
+    for (Entry<MaterialStatsId,List<ModifierEntry>> entry : traitsPerStats.entrySet()) {
+      statIds.add(entry.getKey());
+      for (ModifierEntry trait : entry.getValue()) {
+        modifierIds.add(trait.getId());
+      }
+    }
+  }
+
   /**
    * Writes this object to the packet buffer
-   * @param buffer  Buffer instance
+   * @param buffer       Buffer instance
+   * @param statIds      Stat type ID table, must contain all IDs from {@link #addIds(IdTable.Writer, IdTable.Writer)}
+   * @param modifierIds  Modifier ID table
    */
-  public void write(FriendlyByteBuf buffer) {
-    writeTraitList(buffer, defaultTraits);
+  public void write(FriendlyByteBuf buffer, IdTable.Writer<MaterialStatsId> statIds, IdTable.Writer<ModifierId> modifierIds) {
+    writeTraitList(buffer, defaultTraits, modifierIds);
     // write map of traits
     buffer.writeVarInt(traitsPerStats.size());
     for (Entry<MaterialStatsId,List<ModifierEntry>> entry : traitsPerStats.entrySet()) {
-      buffer.writeResourceLocation(entry.getKey());
-      writeTraitList(buffer, entry.getValue());
+      statIds.write(buffer, entry.getKey());
+      writeTraitList(buffer, entry.getValue(), modifierIds);
     }
   }
 
   /**
    * Reads this object from the packet buffer
-   * @param buffer  Buffer
+   * @param buffer       Buffer
+   * @param statIds      Stat type ID table
+   * @param modifierIds  Modifier ID table
    * @return Read MaterialTraits
    */
-  public static MaterialTraits read(FriendlyByteBuf buffer) {
-    List<ModifierEntry> defaultTraits = readTraitList(buffer);
+  public static MaterialTraits read(FriendlyByteBuf buffer, IdTable.Reader<MaterialStatsId> statIds, IdTable.Reader<ModifierId> modifierIds) {
+    List<ModifierEntry> defaultTraits = readTraitList(buffer, modifierIds);
     int statTypeCount = buffer.readVarInt();
+    if (statTypeCount == 0) {
+      return new MaterialTraits(defaultTraits, Map.of());
+    }
     Map<MaterialStatsId,List<ModifierEntry>> statsTraits = new HashMap<>(statTypeCount);
     for (int i = 0; i < statTypeCount; i++) {
-      MaterialStatsId statsId = new MaterialStatsId(buffer.readResourceLocation());
-      List<ModifierEntry> traitsList = readTraitList(buffer);
+      MaterialStatsId statsId = statIds.read(buffer);
+      List<ModifierEntry> traitsList = readTraitList(buffer, modifierIds);
       statsTraits.put(statsId, traitsList);
     }
     return new MaterialTraits(defaultTraits, statsTraits);
@@ -79,27 +104,33 @@ public class MaterialTraits {
 
   /**
    * Reads a single list of traits from the buffer
-   * @param buffer  Buffer
+   * @param buffer       Buffer
+   * @param modifierIds  Modifier ID table
    * @return  List of traits
    */
-  private static List<ModifierEntry> readTraitList(FriendlyByteBuf buffer) {
-    ImmutableList.Builder<ModifierEntry> builder = ImmutableList.builder();
+  private static List<ModifierEntry> readTraitList(FriendlyByteBuf buffer, IdTable.Reader<ModifierId> modifierIds) {
     int count = buffer.readVarInt();
+    if (count == 0) {
+      return List.of();
+    }
+    ModifierEntry[] traits = new ModifierEntry[count];
     for (int i = 0; i < count; i++) {
-      builder.add(ModifierEntry.read(buffer));
+      traits[i] = new ModifierEntry(modifierIds.read(buffer), buffer.readVarInt());
     }
-    return builder.build();
+    return List.of(traits);
   }
 
   /**
    * Writes a single list of traits to the buffer
-   * @param buffer  Buffer
-   * @param traits  List of traits
+   * @param buffer       Buffer
+   * @param traits       List of traits
+   * @param modifierIds  Modifier ID table
    */
-  private static void writeTraitList(FriendlyByteBuf buffer, List<ModifierEntry> traits) {
+  private static void writeTraitList(FriendlyByteBuf buffer, List<ModifierEntry> traits, IdTable.Writer<ModifierId> modifierIds) {
     buffer.writeVarInt(traits.size());
     for (ModifierEntry entry : traits) {
-      entry.write(buffer);
+      modifierIds.write(buffer, entry.getId());
+      buffer.writeVarInt(entry.getLevel());
     }
   }
 
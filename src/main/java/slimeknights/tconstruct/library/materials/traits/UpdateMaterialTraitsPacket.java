@@ -7,6 +7,9 @@ import net.minecraftforge.network.NetworkEvent.Context;
 import slimeknights.mantle.network.packet.IThreadsafePacket;
 import slimeknights.tconstruct.library.materials.MaterialRegistry;
 import slimeknights.tconstruct.library.materials.definition.MaterialId;
+import slimeknights.tconstruct.library.materials.stats.MaterialStatsId;
+import slimeknights.tconstruct.library.modifiers.ModifierId;
+import slimeknights.tconstruct.library.utils.IdTable;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,21 +20,31 @@ public class UpdateMaterialTraitsPacket implements IThreadsafePacket {
   protected final Map<MaterialId,MaterialTraits> materialToTraits;
 
   public UpdateMaterialTraitsPacket(FriendlyByteBuf buffer) {
-    int materialCount = buffer.readInt();
+    // stat types and modifiers repeat across materials, so they are sent once and referenced by index
+    IdTable.Reader<MaterialStatsId> statIds = IdTable.Reader.read(buffer, MaterialStatsId.PARSER::decode);
+    IdTable.Reader<ModifierId> modifierIds = IdTable.Reader.read(buffer, ModifierId.PARSER::decode);
+    int materialCount = buffer.readVarInt();
     materialToTraits = new HashMap<>(materialCount);
     for (int i = 0; i < materialCount; i++) {
-      MaterialId id = new MaterialId(buffer.readResourceLocation());
-      MaterialTraits traits = MaterialTraits.read(buffer);
+      MaterialId id = MaterialId.PARSER.decode(buffer);
+      MaterialTraits traits = MaterialTraits.read(buffer, statIds, modifierIds);
       materialToTraits.put(id, traits);
     }
   }
 
   @Override
   public void encode(FriendlyByteBuf buffer) {
-    buffer.writeInt(materialToTraits.size());
+    IdTable.Writer<MaterialStatsId> statIds = new IdTable.Writer<>();
+    IdTable.Writer<ModifierId> modifierIds = new IdTable.Writer<>();
+    for (MaterialTraits traits : materialToTraits.values()) {
+      traits.addIds(statIds, modifierIds);
+    }
+    statIds.writeTable(buffer, MaterialStatsId.PARSER::encode);
+    modifierIds.writeTable(buffer, ModifierId.PARSER::encode);
+    buffer.writeVarInt(materialToTraits.size());
     materialToTraits.forEach((materialId, traits) -> {
       buffer.writeResourceLocation(materialId);
-      traits.write(buffer);
+      traits.write(buffer, statIds, modifierIds);
     });
   }
 
@@ -25,6 +25,7 @@ import slimeknights.mantle.data.registry.GenericLoaderRegistry.IHaveLoader;
 import slimeknights.mantle.registration.object.IdAwareObject;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.library.modifiers.ModifierManager.ModifierRegistrationEvent;
+import slimeknights.tconstruct.library.modifiers.util.ModifierHookProfiler;
 import slimeknights.tconstruct.library.modifiers.util.ModifierLevelDisplay;
 import slimeknights.tconstruct.library.module.ModuleHook;
 import slimeknights.tconstruct.library.module.ModuleHookMap;
@@ -359,7 +360,11 @@ public class Modifier implements IHaveLoader, IdAwareObject {
    * @return  Submodule implementing the hook, or default instance if its not implemented
    */
   public final <T> T getHook(ModuleHook<T> hook) {
-    return hooks.getOrDefault(hook);
+    T instance = hooks.getOrDefault(hook);
+    if (id != null && ModifierHookProfiler.isRunning()) {
+      return ModifierHookProfiler.wrap(this, hook, instance);
+    }
+    return instance;
   }
 
 
@@ -1,6 +1,7 @@
 package slimeknights.tconstruct.library.modifiers;
 
 import net.minecraft.resources.ResourceLocation;
+import slimeknights.tconstruct.library.utils.IdInterner;
 import slimeknights.tconstruct.library.utils.IdParser;
 
 import javax.annotation.Nullable;
@@ -9,7 +10,9 @@ import javax.annotation.Nullable;
  * This is just a copy of ResourceLocation for type safety.
  */
 public class ModifierId extends ResourceLocation {
-  public static final IdParser<ModifierId> PARSER = new IdParser<>(ModifierId::new, "Modifier");
+  public static final IdParser<ModifierId> PARSER = new IdParser<>(ModifierId::intern, "Modifier");
+  /** Intern pool for parsed modifier IDs, registered modifiers are added by {@link ModifierManager} */
+  static final IdInterner<ModifierId> INTERNER = new IdInterner<>("Modifier", new IdParser<>(ModifierId::new, "Modifier")::tryParse);
 
   public ModifierId(String resourceName) {
     super(resourceName);
@@ -26,10 +29,20 @@ public class ModifierId extends ResourceLocation {
   /**
    * Creates a new modifier ID from the given string
    * @param string  String
-   * @return  Material ID, or null if invalid
+   * @return  Interned modifier ID, or null if invalid
    */
   @Nullable
   public static ModifierId tryParse(String string) {
-    return PARSER.tryParse(string);
+    return INTERNER.tryParse(string);
+  }
+
+  /**
+   * Parses a modifier ID, reusing the instance from any previous parse of the same string
+   * @param string  String
+   * @return  Interned modifier ID
+   * @throws net.minecraft.ResourceLocationException if the string is invalid
+   */
+  public static ModifierId intern(String string) {
+    return INTERNER.parse(string);
   }
 }
@@ -177,6 +177,7 @@ public class ModifierManager extends SimpleJsonResourceReloadListener {
 
     // TODO: this should be set back to false at some point
     dynamicModifiersLoaded = true;
+    registerIds();
     long timeStep = System.nanoTime();
     log.info("Loaded {} dynamic modifiers and {} modifier redirects in {} ms", modifierSize, redirects.size(), (timeStep - time) / 1000000f);
     time = timeStep;
@@ -270,10 +271,16 @@ public class ModifierManager extends SimpleJsonResourceReloadListener {
     }
   }
 
+  /** Makes all loaded modifier IDs the canonical instances for parsing, so modifiers read from NBT or packets share them */
+  private void registerIds() {
+    ModifierId.INTERNER.setRegistered(Stream.concat(staticModifiers.keySet().stream(), dynamicModifiers.keySet().stream()).toList());
+  }
+
   /** Updates the modifiers from the server */
   void updateModifiersFromServer(Map<ModifierId,Modifier> modifiers, Map<TagKey<Modifier>,List<Modifier>> tags, Map<Enchantment,Modifier> enchantmentMap, Map<TagKey<Enchantment>,Modifier> enchantmentTagMappings) {
     this.dynamicModifiers = modifiers;
     this.dynamicModifiersLoaded = true;
+    registerIds();
     this.tags = tags;
     this.reverseTags = GenericTagUtil.reverseTags(Modifier::getId, tags);
     this.enchantmentMap = enchantmentMap;
@@ -71,7 +71,7 @@ public class UpdateModifiersPacket implements IThreadsafePacket {
     int size = buffer.readVarInt();
     Map<ModifierId,Modifier> modifiers = new HashMap<>();
     for (int i = 0; i < size; i++) {
-      ModifierId id = new ModifierId(buffer.readUtf(Short.MAX_VALUE));
+      ModifierId id = ModifierId.PARSER.decode(buffer);
       Modifier modifier = ModifierManager.MODIFIER_LOADERS.decode(buffer);
       modifier.setId(id);
       modifiers.put(id, modifier);
@@ -79,11 +79,11 @@ public class UpdateModifiersPacket implements IThreadsafePacket {
     // read in redirects
     size = buffer.readVarInt();
     for (int i = 0; i < size; i++) {
-      ModifierId from = new ModifierId(buffer.readUtf(Short.MAX_VALUE));
-      modifiers.put(from, getModifier(modifiers, new ModifierId(buffer.readUtf(Short.MAX_VALUE))));
+      ModifierId from = ModifierId.PARSER.decode(buffer);
+      modifiers.put(from, getModifier(modifiers, ModifierId.PARSER.decode(buffer)));
     }
     this.allModifiers = modifiers;
-    this.tags = GenericTagUtil.decodeTags(buffer, ModifierManager.REGISTRY_KEY, id -> getModifier(modifiers, new ModifierId(id)));
+    this.tags = GenericTagUtil.decodeTags(buffer, ModifierManager.REGISTRY_KEY, ModifierId.PARSER, id -> getModifier(modifiers, id));
 
     // read in enchantment to modifier mapping
     ImmutableMap.Builder<Enchantment,Modifier> enchantmentBuilder = ImmutableMap.builder();
@@ -91,7 +91,7 @@ public class UpdateModifiersPacket implements IThreadsafePacket {
     for (int i = 0; i < size; i++) {
       enchantmentBuilder.put(
         buffer.readRegistryIdUnsafe(ForgeRegistries.ENCHANTMENTS),
-        getModifier(modifiers, new ModifierId(buffer.readResourceLocation())));
+        getModifier(modifiers, ModifierId.PARSER.decode(buffer)));
     }
     enchantmentMap = enchantmentBuilder.build();
     ImmutableMap.Builder<TagKey<Enchantment>, Modifier> enchantmentTagBuilder = ImmutableMap.builder();
@@ -99,7 +99,7 @@ public class UpdateModifiersPacket implements IThreadsafePacket {
     for (int i = 0; i < size; i++) {
       enchantmentTagBuilder.put(
         TagKey.create(Registry.ENCHANTMENT_REGISTRY, buffer.readResourceLocation()),
-        getModifier(modifiers, new ModifierId(buffer.readResourceLocation())));
+        getModifier(modifiers, ModifierId.PARSER.decode(buffer)));
     }
     enchantmentTagMappings = enchantmentTagBuilder.build();
   }
@@ -10,6 +10,17 @@ import java.util.Collection;
 
 /** Hook used to increase mining speed of a block conditioned on the environment or the player */
 public interface BreakSpeedModifierHook {
+  /** Default instance that does nothing, not dynamic so modifiers without the hook do not prevent caching */
+  BreakSpeedModifierHook EMPTY = new BreakSpeedModifierHook() {
+    @Override
+    public void onBreakSpeed(IToolStackView tool, ModifierEntry modifier, BreakSpeed event, Direction sideHit, boolean isEffective, float miningSpeedModifier) {}
+
+    @Override
+    public boolean isDynamic(IToolStackView tool, ModifierEntry modifier) {
+      return false;
+    }
+  };
+
   /**
    * Called when break speed is being calculated to affect mining speed conditionally.
    * <br>
@@ -27,6 +38,18 @@ public interface BreakSpeedModifierHook {
    */
   void onBreakSpeed(IToolStackView tool, ModifierEntry modifier, BreakSpeed event, Direction sideHit, boolean isEffective, float miningSpeedModifier);
 
+  /**
+   * Checks if this hook depends on live context such as the player's position, effects, or the light level.
+   * Non-dynamic hooks may only depend on the tool's modifiers, stats, and damage, the block state, and the hook parameters,
+   * which allows their result to be reused between mining ticks.
+   * @param tool      Current tool instance
+   * @param modifier  Modifier level
+   * @return  True if the result may change without the tool, block, or parameters changing
+   */
+  default boolean isDynamic(IToolStackView tool, ModifierEntry modifier) {
+    return true;
+  }
+
   /** Merger that runs each hook in succession */
   record AllMerger(Collection<BreakSpeedModifierHook> modules) implements BreakSpeedModifierHook {
     @Override
@@ -35,5 +58,15 @@ public interface BreakSpeedModifierHook {
         module.onBreakSpeed(tool, modifier, event, sideHit, isEffective, miningSpeedModifier);
       }
     }
+
+    @Override
+    public boolean isDynamic(IToolStackView tool, ModifierEntry modifier) {
+      for (BreakSpeedModifierHook module : modules) {
+        if (module.isDynamic(tool, modifier)) {
+          return true;
+        }
+      }
+      return false;
+    }
   }
 }
@@ -52,6 +52,15 @@ public interface ArmorWalkRadiusModule<T> extends ArmorWalkModifierHook, Modifie
     return null;
   }
 
+  /**
+   * If true, a single block step only walks on positions newly entering the radius instead of the full radius.
+   * Only suitable for effects that do not need to be reapplied while the position stays in range, such as permanent block transforms.
+   * The radius is measured from the center of the block the entity stands in rather than its exact position, see {@link WalkRadiusTracker}.
+   */
+  default boolean isIncremental() {
+    return false;
+  }
+
   @Override
   default void onWalk(IToolStackView tool, ModifierEntry modifier, LivingEntity living, BlockPos prevPos, BlockPos newPos) {
     if (living.isOnGround() && !tool.isBroken() && !living.level.isClientSide) {
@@ -61,13 +70,26 @@ public interface ArmorWalkRadiusModule<T> extends ArmorWalkModifierHook, Modifie
       Level world = living.level;
       Vec3 posVec = living.position();
       BlockPos center = new BlockPos(posVec.x, posVec.y + 0.5, posVec.z);
-      for (BlockPos pos : BlockPos.betweenClosed(center.offset(-radius, 0, -radius), center.offset(radius, 0, radius))) {
-        if (pos.closerToCenterThan(living.position(), radius)) {
-          walkOn(tool, modifier, living, world, pos, mutable, context);
+      if (isIncremental()) {
+        MutableBlockPos target = new MutableBlockPos();
+        int[] offsets = WalkRadiusTracker.walk(this, living, center, radius);
+        for (int i = 0; i < offsets.length; i += 2) {
+          target.set(center.getX() + offsets[i], center.getY(), center.getZ() + offsets[i + 1]);
+          walkOn(tool, modifier, living, world, target, mutable, context);
           if (tool.isBroken()) {
+            WalkRadiusTracker.reset(this, living);
             break;
           }
         }
+      } else {
+        for (BlockPos pos : BlockPos.betweenClosed(center.offset(-radius, 0, -radius), center.offset(radius, 0, radius))) {
+          if (pos.closerToCenterThan(living.position(), radius)) {
+            walkOn(tool, modifier, living, world, pos, mutable, context);
+            if (tool.isBroken()) {
+              break;
+            }
+          }
+        }
       }
     }
   }
@@ -37,6 +37,12 @@ public record CoverGroundWalkerModule(BlockState state, LevelingValue radius, Mo
     return radius.compute(modifier.getLevel() + tool.getModifierLevel(TinkerModifiers.expanded.getId()));
   }
 
+  /** Placed blocks remain while in range, so only new positions need to be covered */
+  @Override
+  public boolean isIncremental() {
+    return true;
+  }
+
   @Override
   public void onWalk(IToolStackView tool, ModifierEntry modifier, LivingEntity living, BlockPos prevPos, BlockPos newPos) {
     if (condition.matches(tool, modifier)) {
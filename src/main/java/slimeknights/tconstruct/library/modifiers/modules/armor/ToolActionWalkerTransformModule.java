@@ -67,6 +67,12 @@ public record ToolActionWalkerTransformModule(ToolAction action, SoundEvent soun
     return condition.matches(tool, modifier) && toolAction == this.action;
   }
 
+  /** Transformed blocks stay transformed, so only new positions need to be checked */
+  @Override
+  public boolean isIncremental() {
+    return true;
+  }
+
   @Override
   public void onWalk(IToolStackView tool, ModifierEntry modifier, LivingEntity living, BlockPos prevPos, BlockPos newPos) {
     if (condition.matches(tool, modifier)) {
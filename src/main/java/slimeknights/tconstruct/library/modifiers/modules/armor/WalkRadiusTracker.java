@@ -0,0 +1,121 @@
+package slimeknights.tconstruct.library.modifiers.modules.armor;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the last position each walker ran at, so a single block step only needs to visit positions newly entering the radius.
+ * Offsets are precomputed per radius as a full disk and a crescent for each of the 8 step directions.
+ * Teleports, vertical moves, radius changes, and moves over multiple blocks fall back to the full disk.
+ * The disk is anchored to the block the entity stands in, matching {@link BlockPos#closerToCenterThan} for an entity standing in the middle of the block.
+ * The full scan instead measures from the exact entity position, so its disk shifts by up to half a block as the entity moves within a block.
+ */
+public class WalkRadiusTracker {
+  private static final int[] EMPTY = new int[0];
+  /** Offset tables by radius, index 4 is the full disk and the rest are crescents by step direction */
+  private static final Map<Float,int[][]> TABLES = new ConcurrentHashMap<>();
+  /** Last walk for each entity, keyed by walker instance. Only accessed from the server thread */
+  private static final Map<LivingEntity,Map<Object,LastWalk>> LAST_WALKS = new WeakHashMap<>();
+
+  private WalkRadiusTracker() {}
+
+  /** Last position a walker ran at */
+  private record LastWalk(Level level, BlockPos center, float radius) {}
+
+  /** Gets the table index for the given step */
+  private static int index(int dx, int dz) {
+    return (dx + 1) * 3 + (dz + 1);
+  }
+
+  /** Checks if the given offset is within the radius, measuring from the center of the offset block to an entity standing in the middle of the center block */
+  static boolean inDisk(int x, int z, float radius) {
+    // entity feet are half a block below the block center
+    return x * x + z * z + 0.25f < radius * radius;
+  }
+
+  /** Gets all offset tables for the given radius */
+  private static int[][] getTables(float radius) {
+    return TABLES.computeIfAbsent(radius, r -> new int[9][]);
+  }
+
+  /**
+   * Computes the offsets within the radius that were not within the radius before the given step
+   * @param radius  Walk radius
+   * @param dx      Step along X, from -1 to 1. If both are 0, computes the full disk
+   * @param dz      Step along Z, from -1 to 1
+   * @return  Offsets as interleaved X and Z pairs
+   */
+  static int[] computeOffsets(float radius, int dx, int dz) {
+    boolean full = dx == 0 && dz == 0;
+    int size = Mth.ceil(radius);
+    IntArrayList offsets = new IntArrayList();
+    for (int x = -size; x <= size; x++) {
+      for (int z = -size; z <= size; z++) {
+        // position relative to the old center is the offset plus the step
+        if (inDisk(x, z, radius) && (full || !inDisk(x + dx, z + dz, radius))) {
+          offsets.add(x);
+          offsets.add(z);
+        }
+      }
+    }
+    return offsets.toIntArray();
+  }
+
+  /**
+   * Gets the offsets to process for the given step
+   * @param radius  Walk radius
+   * @param dx      Step along X, from -1 to 1. If both are 0, gets the full disk
+   * @param dz      Step along Z, from -1 to 1
+   * @return  Offsets as interleaved X and Z pairs
+   */
+  static int[] getOffsets(float radius, int dx, int dz) {
+    int[][] tables = getTables(radius);
+    int index = index(dx, dz);
+    int[] offsets = tables[index];
+    if (offsets == null) {
+      offsets = computeOffsets(radius, dx, dz);
+      tables[index] = offsets;
+    }
+    return offsets;
+  }
+
+  /**
+   * Gets the offsets to walk on for the given walker, and records this walk for the next step
+   * @param walker  Walker instance, compared by identity
+   * @param living  Entity walking
+   * @param center  Center of the walk
+   * @param radius  Walk radius
+   * @return  Offsets from the center as interleaved X and Z pairs
+   */
+  public static int[] walk(Object walker, LivingEntity living, BlockPos center, float radius) {
+    LastWalk last = LAST_WALKS.computeIfAbsent(living, e -> new Reference2ObjectOpenHashMap<>())
+                              .put(walker, new LastWalk(living.level, center.immutable(), radius));
+    if (last != null && last.level == living.level && last.radius == radius && last.center.getY() == center.getY()) {
+      int dx = center.getX() - last.center.getX();
+      int dz = center.getZ() - last.center.getZ();
+      if (dx == 0 && dz == 0) {
+        return EMPTY;
+      }
+      if (Math.abs(dx) <= 1 && Math.abs(dz) <= 1) {
+        return getOffsets(radius, dx, dz);
+      }
+    }
+    return getOffsets(radius, 0, 0);
+  }
+
+  /** Clears the last walk for the given walker, next walk will process the full radius. Used when a walk stops partway */
+  public static void reset(Object walker, LivingEntity living) {
+    Map<Object,LastWalk> walks = LAST_WALKS.get(living);
+    if (walks != null) {
+      walks.remove(walker);
+    }
+  }
+}
@@ -72,6 +72,12 @@ public record ConditionalMiningSpeedModule(
     }
   }
 
+  @Override
+  public boolean isDynamic(IToolStackView tool, ModifierEntry modifier) {
+    // variables and holder conditions read from the player or world
+    return holder != LivingEntityPredicate.ANY || !formula.variables().isEmpty();
+  }
+
   @Override
   public INumericToolStat<?> stat() {
     return ToolStats.MINING_SPEED;
@@ -69,11 +69,11 @@ public record ArmorLevelModule(TinkerDataKey<Integer> key, boolean allowBroken,
    */
   public static void addLevels(EquipmentChangeContext context, TinkerDataKey<Integer> key, int amount) {
     context.getTinkerData().ifPresent(data -> {
-      int totalLevels = data.get(key, 0) + amount;
+      int totalLevels = data.getInt(key, 0) + amount;
       if (totalLevels <= 0) {
         data.remove(key);
       } else {
-        data.put(key, totalLevels);
+        data.putInt(key, totalLevels);
       }
     });
   }
@@ -114,6 +114,7 @@ public record ArmorLevelModule(TinkerDataKey<Integer> key, boolean allowBroken,
    * @return  Level from the key
    */
   public static int getLevel(LazyOptional<TinkerDataCapability.Holder> cap, TinkerDataKey<Integer> key) {
-    return cap.resolve().map(data -> data.get(key)).orElse(0);
+    TinkerDataCapability.Holder data = cap.orElse(null);
+    return data == null ? 0 : data.getInt(key, 0);
   }
 }
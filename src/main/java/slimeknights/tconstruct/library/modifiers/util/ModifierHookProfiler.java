@@ -0,0 +1,187 @@
+package slimeknights.tconstruct.library.modifiers.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraftforge.common.MinecraftForge;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.library.modifiers.Modifier;
+import slimeknights.tconstruct.library.modifiers.ModifierId;
+import slimeknights.tconstruct.library.modifiers.ModifierManager.ModifiersLoadedEvent;
+import slimeknights.tconstruct.library.module.ModuleHook;
+
+import javax.annotation.Nullable;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Profiler for modifier hooks, enabled through {@code /tconstruct profile}.
+ * While running, {@link Modifier#getHook(ModuleHook)} returns a proxy timing each call, so every caller (tool events, harvest logic, attack logic, inventory ticks, stat rebuilds) is captured.
+ * Times are inclusive, so a hook that calls other modifier hooks includes their time.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ModifierHookProfiler {
+  /** If true, hooks are being profiled */
+  private static volatile boolean running = false;
+  /** If true, allocated bytes are also recorded */
+  private static volatile boolean trackAllocations = false;
+  /** Stats for each hook and modifier */
+  private static final Map<Key,Stats> STATS = new ConcurrentHashMap<>();
+  /** Proxies for each hook and modifier instance, so the proxy is only created once per profiling session */
+  private static final Map<ProxyKey,Object> PROXIES = new ConcurrentHashMap<>();
+  /** Thread bean supporting allocation tracking, null if not supported by this JVM */
+  @Nullable
+  private static final com.sun.management.ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported() ? bean : null;
+
+  static {
+    // reloading replaces modifiers and their hooks, drop proxies wrapping the old instances
+    MinecraftForge.EVENT_BUS.addListener((ModifiersLoadedEvent event) -> PROXIES.clear());
+  }
+
+  /** Checks if the profiler is currently running */
+  public static boolean isRunning() {
+    return running;
+  }
+
+  /** Checks if allocation tracking is supported by this JVM */
+  public static boolean canTrackAllocations() {
+    return THREAD_BEAN != null;
+  }
+
+  /**
+   * Starts profiling, keeping any previously recorded results
+   * @param allocations  If true, also record allocated bytes. Ignored if not supported
+   */
+  public static void start(boolean allocations) {
+    if (allocations && THREAD_BEAN != null) {
+      THREAD_BEAN.setThreadAllocatedMemoryEnabled(true);
+      trackAllocations = true;
+    } else {
+      trackAllocations = false;
+    }
+    running = true;
+  }
+
+  /** Stops profiling, keeping the recorded results */
+  public static void stop() {
+    running = false;
+    PROXIES.clear();
+  }
+
+  /** Clears all recorded results */
+  public static void reset() {
+    STATS.clear();
+  }
+
+  /** Gets all recorded results, sorted by total time descending */
+  public static List<Result> getResults() {
+    return STATS.entrySet().stream()
+                .map(entry -> entry.getValue().toResult(entry.getKey()))
+                .sorted(Comparator.comparingLong(Result::totalNanos).reversed())
+                .toList();
+  }
+
+  /**
+   * Wraps the given hook instance to record calls while profiling. Should only be called if {@link #isRunning()} is true.
+   * @param modifier  Modifier owning the hook, must have an ID
+   * @param hook      Hook type
+   * @param instance  Hook instance
+   * @param <T>  Hook type
+   * @return  Instance recording calls, or the original instance if it cannot be profiled
+   */
+  public static <T> T wrap(Modifier modifier, ModuleHook<T> hook, T instance) {
+    // default instances do no work, and non-interface hooks cannot be proxied
+    Class<T> filter = hook.getFilter();
+    if (instance == hook.getDefaultInstance() || !filter.isInterface()) {
+      return instance;
+    }
+    return hook.cast(PROXIES.computeIfAbsent(new ProxyKey(hook, modifier), k -> {
+      // stats are shared by ID, so results are combined across reloads
+      ModifierId id = modifier.getId();
+      try {
+        return Proxy.newProxyInstance(filter.getClassLoader(), new Class<?>[] { filter }, new Handler(instance, STATS.computeIfAbsent(new Key(hook, id), s -> new Stats())));
+      } catch (IllegalArgumentException e) {
+        TConstruct.LOG.error("Failed to create profiling proxy for {} on {}", hook.getId(), id, e);
+        return instance;
+      }
+    }));
+  }
+
+  /** Gets the bytes allocated by the current thread, or 0 if not tracking */
+  private static long allocatedBytes() {
+    if (trackAllocations && THREAD_BEAN != null) {
+      return THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return 0;
+  }
+
+  /** Key for a single profiler entry */
+  private record Key(ModuleHook<?> hook, ModifierId modifier) {}
+
+  /** Key for a proxy, modifiers compare by identity so a reloaded modifier gets a new proxy */
+  private record ProxyKey(ModuleHook<?> hook, Modifier modifier) {}
+
+  /** Results for a single hook and modifier pair */
+  public record Result(ModuleHook<?> hook, ModifierId modifier, long calls, long totalNanos, long maxNanos, long allocatedBytes) {
+    /** Gets the average time per call in nanoseconds */
+    public double averageNanos() {
+      return calls == 0 ? 0 : (double)totalNanos / calls;
+    }
+  }
+
+  /** Mutable stats for a single hook and modifier pair */
+  private static class Stats {
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    /** Records a single call */
+    private void record(long nanos, long bytes) {
+      calls.increment();
+      totalNanos.add(nanos);
+      maxNanos.accumulateAndGet(nanos, Math::max);
+      if (bytes > 0) {
+        allocatedBytes.add(bytes);
+      }
+    }
+
+    /** Creates a result snapshot */
+    private Result toResult(Key key) {
+      return new Result(key.hook, key.modifier, calls.sum(), totalNanos.sum(), maxNanos.get(), allocatedBytes.sum());
+    }
+  }
+
+  /** Proxy handler timing each hook method */
+  private record Handler(Object instance, Stats stats) implements InvocationHandler {
+    @Override
+    public Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+      // no need to time object methods
+      if (method.getDeclaringClass() == Object.class) {
+        return switch (method.getName()) {
+          case "equals" -> args != null && proxy == args[0];
+          case "hashCode" -> System.identityHashCode(proxy);
+          default -> method.invoke(instance, args);
+        };
+      }
+      long bytes = allocatedBytes();
+      long start = System.nanoTime();
+      try {
+        return method.invoke(instance, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      } finally {
+        long nanos = System.nanoTime() - start;
+        stats.record(nanos, bytes == 0 ? 0 : allocatedBytes() - bytes);
+      }
+    }
+  }
+}
@@ -16,6 +16,7 @@ public class ModuleHook<T> implements IdAwareObject {
   @Getter
   private final ResourceLocation id;
   /** Filter to check if an object is valid for this hook */
+  @Getter
   private final Class<T> filter;
   /** Logic to merge multiple instances into a single instance */
   @Nullable
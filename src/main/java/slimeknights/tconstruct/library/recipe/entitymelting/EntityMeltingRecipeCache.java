@@ -1,26 +1,66 @@
 package slimeknights.tconstruct.library.recipe.entitymelting;
 
+import com.google.common.collect.MapMaker;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.registries.ForgeRegistries;
 import slimeknights.mantle.recipe.helper.RecipeHelper;
 import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
 import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 
 import javax.annotation.Nullable;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
- * Class handling a recipe cache for entity melting recipes, since any given entity type has one recipe
+ * Class handling a recipe cache for entity melting recipes, since any given entity type has one recipe.
+ * Each recipe manager gets an immutable table of recipes by entity type, built on first lookup after recipes or tags reload.
+ * Tables are immutable and managers are held weakly, so lookups from either side in singleplayer do not lock or scan, and leaving a world releases its manager.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class EntityMeltingRecipeCache {
-  private static final Map<EntityType<?>,EntityMeltingRecipe> CACHE = new HashMap<>();
+  /** Recipe table for each recipe manager, compared by identity */
+  private static final Map<RecipeManager,Map<EntityType<?>,EntityMeltingRecipe>> TABLES = new MapMaker().weakKeys().makeMap();
 
   static {
-    RecipeCacheInvalidator.addReloadListener(client -> CACHE.clear());
+    RecipeCacheInvalidator.addReloadListener(client -> clear());
+    // entity ingredients are mostly tags
+    MinecraftForge.EVENT_BUS.addListener((TagsUpdatedEvent event) -> clear());
+  }
+
+  /** Clears all tables */
+  private static synchronized void clear() {
+    TABLES.clear();
+  }
+
+  /** Gets the table for the given manager, synchronized so a clear during the build is not lost */
+  private static synchronized Map<EntityType<?>,EntityMeltingRecipe> getOrBuildTable(RecipeManager manager) {
+    return TABLES.computeIfAbsent(manager, m -> buildTable(RecipeHelper.getRecipes(m, TinkerRecipeTypes.ENTITY_MELTING.get(), EntityMeltingRecipe.class), ForgeRegistries.ENTITY_TYPES));
+  }
+
+  /**
+   * Builds the table of recipes by entity type
+   * @param recipes  All recipes, in recipe manager order
+   * @param types    All entity types
+   * @return  Immutable table of the first matching recipe for each type
+   */
+  static Map<EntityType<?>,EntityMeltingRecipe> buildTable(List<EntityMeltingRecipe> recipes, Iterable<EntityType<?>> types) {
+    // first matching recipe for each type, same as scanning the recipes on lookup
+    Map<EntityType<?>,EntityMeltingRecipe> builder = new HashMap<>();
+    for (EntityType<?> type : types) {
+      for (EntityMeltingRecipe recipe : recipes) {
+        if (recipe.matches(type)) {
+          builder.put(type, recipe);
+          break;
+        }
+      }
+    }
+    return Map.copyOf(builder);
   }
 
   /**
@@ -31,20 +71,10 @@ public class EntityMeltingRecipeCache {
    */
   @Nullable
   public static EntityMeltingRecipe findRecipe(RecipeManager manager, EntityType<?> type) {
-    if (CACHE.containsKey(type)) {
-      return CACHE.get(type);
+    Map<EntityType<?>,EntityMeltingRecipe> table = TABLES.get(manager);
+    if (table == null) {
+      table = getOrBuildTable(manager);
     }
-
-    // find a recipe if none exist
-    for (EntityMeltingRecipe recipe : RecipeHelper.getRecipes(manager, TinkerRecipeTypes.ENTITY_MELTING.get(), EntityMeltingRecipe.class)) {
-      if (recipe.matches(type)) {
-        CACHE.put(type, recipe);
-        return recipe;
-      }
-    }
-
-    // cache nothing was found
-    CACHE.put(type, null);
-    return null;
+    return table.get(type);
   }
 }
@@ -96,6 +96,17 @@ public abstract class AbstractModifierRecipe implements ITinkerStationRecipe, ID
     return maxToolSize;
   }
 
+  @Override
+  public Ingredient getToolFilter() {
+    return toolRequirement;
+  }
+
+  @Nullable
+  @Override
+  public ModifierId getCrystalFilter() {
+    return allowCrystal ? result.getId() : null;
+  }
+
   /* JEI display */
   /** Cache of input items shared between result and input */
   @Nullable
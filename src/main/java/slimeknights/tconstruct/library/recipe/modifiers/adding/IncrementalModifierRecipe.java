@@ -73,6 +73,11 @@ public class IncrementalModifierRecipe extends AbstractModifierRecipe {
     return matchesCrystal(inv) || containsOnlyIngredient(inv, input);
   }
 
+  @Override
+  public Ingredient getInputFilter() {
+    return input;
+  }
+
   @Override
   public RecipeResult<ItemStack> getValidatedResult(ITinkerStationContainer inv) {
     ItemStack tinkerable = inv.getTinkerableStack();
@@ -123,6 +123,13 @@ public class ModifierRecipe extends AbstractModifierRecipe {
     return matchesCrystal(inv) || checkMatch(inv, inputs);
   }
 
+  @Override
+  @Nullable
+  public Ingredient getInputFilter() {
+    // no inputs means only crystals match
+    return inputs.isEmpty() ? Ingredient.EMPTY : null;
+  }
+
   /**
    * Gets the recipe result, or an object containing an error message if the recipe matches but cannot be applied.
    * @return Validated result
@@ -63,6 +63,16 @@ public class OverslimeModifierRecipe implements ITinkerStationRecipe, IDisplayMo
     return IncrementalModifierRecipe.containsOnlyIngredient(inv, ingredient);
   }
 
+  @Override
+  public Ingredient getToolFilter() {
+    return Ingredient.of(TinkerTags.Items.DURABILITY);
+  }
+
+  @Override
+  public Ingredient getInputFilter() {
+    return ingredient;
+  }
+
   @Override
   public RecipeResult<ItemStack> getValidatedResult(ITinkerStationContainer inv) {
     ItemStack tinkerable = inv.getTinkerableStack();
@@ -1,54 +1,82 @@
 package slimeknights.tconstruct.library.recipe.modifiers.severing;
 
+import com.google.common.collect.MapMaker;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.registries.ForgeRegistries;
 import slimeknights.mantle.recipe.helper.RecipeHelper;
 import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
 import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Class handling a recipe cache for entity melting recipes, since any given entity type has one recipe
+ * Class handling a recipe cache for severing recipes, as any given entity type has a fixed list of recipes.
+ * Each recipe manager gets an immutable table of recipes by entity type, built on first lookup after recipes or tags reload.
+ * Tables are immutable and managers are held weakly, so lookups from either side in singleplayer do not lock or scan, and leaving a world releases its manager.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class SeveringRecipeCache {
-  private static final Map<EntityType<?>,List<SeveringRecipe>> CACHE = new HashMap<>();
+  /** Recipe table for each recipe manager, compared by identity */
+  private static final Map<RecipeManager,Map<EntityType<?>,List<SeveringRecipe>>> TABLES = new MapMaker().weakKeys().makeMap();
 
   static {
-    RecipeCacheInvalidator.addReloadListener(client -> CACHE.clear());
+    RecipeCacheInvalidator.addReloadListener(client -> clear());
+    // entity ingredients are mostly tags
+    MinecraftForge.EVENT_BUS.addListener((TagsUpdatedEvent event) -> clear());
+  }
+
+  /** Clears all tables */
+  private static synchronized void clear() {
+    TABLES.clear();
+  }
+
+  /** Gets the table for the given manager, synchronized so a clear during the build is not lost */
+  private static synchronized Map<EntityType<?>,List<SeveringRecipe>> getOrBuildTable(RecipeManager manager) {
+    return TABLES.computeIfAbsent(manager, m -> buildTable(RecipeHelper.getRecipes(m, TinkerRecipeTypes.SEVERING.get(), SeveringRecipe.class), ForgeRegistries.ENTITY_TYPES));
+  }
+
+  /**
+   * Builds the table of recipes by entity type
+   * @param recipes  All recipes, in recipe manager order
+   * @param types    All entity types
+   * @return  Immutable table of all matching recipes for each type, types with no recipes are skipped
+   */
+  static Map<EntityType<?>,List<SeveringRecipe>> buildTable(List<SeveringRecipe> recipes, Iterable<EntityType<?>> types) {
+    // all matching recipes for each type, in recipe order
+    Map<EntityType<?>,List<SeveringRecipe>> builder = new HashMap<>();
+    for (EntityType<?> type : types) {
+      List<SeveringRecipe> list = new ArrayList<>();
+      for (SeveringRecipe recipe : recipes) {
+        if (recipe.matches(type)) {
+          list.add(recipe);
+        }
+      }
+      if (!list.isEmpty()) {
+        builder.put(type, List.copyOf(list));
+      }
+    }
+    return Map.copyOf(builder);
   }
 
   /**
-   * Gets the recipe for the given type
+   * Gets the recipes for the given type
    * @param manager  Recipe manager
    * @param type     Entity type
-   * @return  Recipe, or null if no recipe for this type
+   * @return  Recipes matching the type, empty if none
    */
   public static List<SeveringRecipe> findRecipe(RecipeManager manager, EntityType<?> type) {
-    if (CACHE.containsKey(type)) {
-      return CACHE.get(type);
-    }
-
-    // find all severing recipes for the entity
-    List<SeveringRecipe> list = new ArrayList<>();
-    for (SeveringRecipe recipe : RecipeHelper.getRecipes(manager, TinkerRecipeTypes.SEVERING.get(), SeveringRecipe.class)) {
-      if (recipe.matches(type)) {
-        list.add(recipe);
-      }
+    Map<EntityType<?>,List<SeveringRecipe>> table = TABLES.get(manager);
+    if (table == null) {
+      table = getOrBuildTable(manager);
     }
-    if (list.isEmpty()) {
-      list = Collections.emptyList();
-    }
-
-    // cache nothing was found
-    CACHE.put(type, list);
-    return list;
+    return table.getOrDefault(type, List.of());
   }
 }
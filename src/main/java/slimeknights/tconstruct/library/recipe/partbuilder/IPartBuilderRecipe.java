@@ -29,6 +29,16 @@ public interface IPartBuilderRecipe extends ICommonRecipe<IPartBuilderContainer>
     return Stream.of(getPattern());
   }
 
+  /**
+   * Gets the ingredient matching all pattern items usable in this recipe, used to index recipes by pattern item.
+   * Should be a superset of the pattern check in {@link #partialMatch(IPartBuilderContainer)}.
+   * @return  Pattern ingredient, or null if the recipe should be checked against every pattern
+   */
+  @Nullable
+  default Ingredient getPatternItem() {
+    return null;
+  }
+
   /**
    * Gets the number of material needed for this recipe
    * @return  Material amount
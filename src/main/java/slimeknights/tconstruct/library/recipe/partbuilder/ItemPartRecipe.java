@@ -44,6 +44,7 @@ public class ItemPartRecipe implements IDisplayPartBuilderRecipe {
   private final MaterialVariant material;
   @Getter
   private final Pattern pattern;
+  @Getter
   private final Ingredient patternItem;
   @Getter
   private final int cost;
@@ -0,0 +1,179 @@
+package slimeknights.tconstruct.library.recipe.partbuilder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import slimeknights.tconstruct.common.TinkerTags;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.events.MaterialsLoadedEvent;
+import slimeknights.tconstruct.library.materials.definition.MaterialId;
+import slimeknights.tconstruct.library.materials.definition.MaterialVariantId;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+import slimeknights.tconstruct.library.recipe.material.IMaterialValue;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Lookup for part builder recipes indexed by pattern item and required material.
+ * Indexes are created lazily per recipe manager, so the client and server in single player do not share recipe instances.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PartBuilderRecipeLookup {
+  /** Comparator for the order recipes are merged into the pattern map, earlier recipes win ties */
+  private static final Comparator<IPartBuilderRecipe> RECIPE_ORDER = Comparator.comparing(Recipe::getId);
+  /** Comparator for the order buttons display in the UI */
+  private static final Comparator<Entry<Pattern,IPartBuilderRecipe>> BUTTON_ORDER = Comparator.<Entry<Pattern,IPartBuilderRecipe>>comparingInt(ent -> ent.getValue().getCost()).thenComparing(Entry::getKey);
+  /** Result when no recipes match */
+  public static final PartBuilderRecipes EMPTY = new PartBuilderRecipes(Collections.emptyMap(), Collections.emptyList());
+
+  /** Index for each recipe manager, weak so old managers are released on reload */
+  private static final Map<RecipeManager,RecipeIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> INDEXES.clear());
+    // craftability and material usability may change on material reload
+    MinecraftForge.EVENT_BUS.addListener((MaterialsLoadedEvent event) -> INDEXES.clear());
+    // pattern and material inputs are mostly tags
+    MinecraftForge.EVENT_BUS.addListener((TagsUpdatedEvent event) -> INDEXES.clear());
+  }
+
+  /** Gets the index for the given manager */
+  private static RecipeIndex getIndex(RecipeManager manager) {
+    synchronized (INDEXES) {
+      return INDEXES.computeIfAbsent(manager, RecipeIndex::new);
+    }
+  }
+
+  /**
+   * Gets all recipes matching the current part builder inputs
+   * @param manager  Recipe manager
+   * @param inv      Part builder inventory, should have a non-empty pattern
+   * @return  Recipes for each pattern along with the sorted button list
+   */
+  public static PartBuilderRecipes getRecipes(RecipeManager manager, IPartBuilderContainer inv) {
+    ItemStack patternStack = inv.getPatternStack();
+    if (patternStack.isEmpty()) {
+      return EMPTY;
+    }
+    RecipeIndex index = getIndex(manager);
+    // results only depend on items and the material when there is no extra NBT to consider, such as for tool recycling
+    ItemStack stack = inv.getStack();
+    if (patternStack.getTag() == null && (stack.getTag() == null || stack.is(TinkerTags.Items.TOOL_PARTS))) {
+      IMaterialValue material = stack.isEmpty() ? null : inv.getMaterial();
+      ResultKey key = new ResultKey(patternStack.getItem(), stack.getItem(), material == null ? null : material.getMaterial().getVariant());
+      PartBuilderRecipes cached = index.results.get(key);
+      if (cached == null) {
+        cached = index.findRecipes(inv);
+        index.results.put(key, cached);
+      }
+      return cached;
+    }
+    return index.findRecipes(inv);
+  }
+
+  /** Recipes matching a part builder inventory */
+  public record PartBuilderRecipes(Map<Pattern,IPartBuilderRecipe> recipes, List<Pattern> sortedButtons) {}
+
+  /** Key for the result cache */
+  private record ResultKey(Item pattern, Item material, @Nullable MaterialVariantId variant) {}
+
+  /** Candidate recipes for a single pattern item */
+  private record Candidates(List<IPartBuilderRecipe> all, List<IPartBuilderRecipe> anyMaterial, Map<MaterialId,List<IPartBuilderRecipe>> byMaterial) {}
+
+  /** Index of recipes for a single recipe manager */
+  private static class RecipeIndex {
+    /** Recipes with no simple pattern ingredient, checked for all patterns */
+    private final List<IPartBuilderRecipe> unindexed = new ArrayList<>();
+    /** Recipes for each pattern item */
+    private final Map<Item,List<IPartBuilderRecipe>> byPattern = new IdentityHashMap<>();
+    /** Candidates for each pattern item, split by material */
+    private final Map<Item,Candidates> candidates = new ConcurrentHashMap<>();
+    /** Cached results for each pattern and material pair */
+    private final Map<ResultKey,PartBuilderRecipes> results = new ConcurrentHashMap<>();
+
+    private RecipeIndex(RecipeManager manager) {
+      for (IPartBuilderRecipe recipe : manager.byType(TinkerRecipeTypes.PART_BUILDER.get()).values()) {
+        Ingredient ingredient = recipe.getPatternItem();
+        if (ingredient == null || !ingredient.isSimple()) {
+          unindexed.add(recipe);
+        } else {
+          for (ItemStack pattern : ingredient.getItems()) {
+            List<IPartBuilderRecipe> list = byPattern.computeIfAbsent(pattern.getItem(), i -> new ArrayList<>());
+            // ingredients may list the same item multiple times
+            if (list.isEmpty() || list.get(list.size() - 1) != recipe) {
+              list.add(recipe);
+            }
+          }
+        }
+      }
+    }
+
+    /** Builds the list of candidates for the given pattern item */
+    private Candidates getCandidates(Item pattern) {
+      return candidates.computeIfAbsent(pattern, item -> {
+        List<IPartBuilderRecipe> all = new ArrayList<>(byPattern.getOrDefault(item, Collections.emptyList()));
+        all.addAll(unindexed);
+        all.sort(RECIPE_ORDER);
+        List<IPartBuilderRecipe> anyMaterial = new ArrayList<>();
+        Map<MaterialId,List<IPartBuilderRecipe>> byMaterial = new HashMap<>();
+        for (IPartBuilderRecipe recipe : all) {
+          // item part recipes with a material only match that material
+          if (recipe instanceof ItemPartRecipe itemRecipe && !itemRecipe.getMaterial().isEmpty()) {
+            byMaterial.computeIfAbsent(itemRecipe.getMaterial().getId(), id -> new ArrayList<>()).add(recipe);
+          } else {
+            anyMaterial.add(recipe);
+          }
+        }
+        return new Candidates(all, anyMaterial, byMaterial);
+      });
+    }
+
+    /** Finds all recipes matching the given inventory */
+    private PartBuilderRecipes findRecipes(IPartBuilderContainer inv) {
+      Candidates candidates = getCandidates(inv.getPatternStack().getItem());
+      List<IPartBuilderRecipe> toCheck;
+      if (inv.getStack().isEmpty()) {
+        toCheck = candidates.all;
+      } else {
+        IMaterialValue value = inv.getMaterial();
+        List<IPartBuilderRecipe> materialRecipes = value == null ? null : candidates.byMaterial.get(value.getMaterial().getId());
+        if (materialRecipes == null) {
+          toCheck = candidates.anyMaterial;
+        } else {
+          toCheck = new ArrayList<>(candidates.anyMaterial);
+          toCheck.addAll(materialRecipes);
+          toCheck.sort(RECIPE_ORDER);
+        }
+      }
+      // the map ensures the patterns are unique, first recipe wins
+      Map<Pattern,IPartBuilderRecipe> recipes = new HashMap<>();
+      for (IPartBuilderRecipe recipe : toCheck) {
+        if (recipe.partialMatch(inv)) {
+          recipe.getPatterns(inv).forEach(pattern -> recipes.putIfAbsent(pattern, recipe));
+        }
+      }
+      if (recipes.isEmpty()) {
+        return EMPTY;
+      }
+      List<Pattern> sortedButtons = recipes.entrySet().stream().sorted(BUTTON_ORDER).map(Entry::getKey).collect(Collectors.toList());
+      return new PartBuilderRecipes(Collections.unmodifiableMap(recipes), Collections.unmodifiableList(sortedButtons));
+    }
+  }
+}
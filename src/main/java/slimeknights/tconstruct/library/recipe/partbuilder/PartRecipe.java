@@ -50,6 +50,7 @@ public class PartRecipe implements IPartBuilderRecipe, IMultiRecipe<ItemPartReci
   protected final String group;
   @Getter
   protected final Pattern pattern;
+  @Getter
   protected final Ingredient patternItem;
   /** Recipe material cost */
   @Getter
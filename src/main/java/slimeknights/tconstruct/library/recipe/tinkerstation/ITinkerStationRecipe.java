@@ -2,12 +2,16 @@ package slimeknights.tconstruct.library.recipe.tinkerstation;
 
 import net.minecraft.core.NonNullList;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
 import slimeknights.mantle.recipe.ICommonRecipe;
+import slimeknights.tconstruct.library.modifiers.ModifierId;
 import slimeknights.tconstruct.library.recipe.RecipeResult;
 import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 
+import javax.annotation.Nullable;
+
 /**
  * Main interface for all recipes in the Tinker Station
  */
@@ -26,6 +30,38 @@ public interface ITinkerStationRecipe extends ICommonRecipe<ITinkerStationContai
   @Override
   boolean matches(ITinkerStationContainer inv, Level world);
 
+
+  /* Lookup filters, used by {@link TinkerStationRecipeLookup} to skip recipes that cannot match */
+
+  /**
+   * Gets an ingredient the tinkerable stack must match for {@link #matches(ITinkerStationContainer, Level)} to be true.
+   * {@link Ingredient#EMPTY} means this recipe requires an empty tinkerable slot.
+   * @return  Tool filter, or null if any tool may match. Ignored if the ingredient is not simple.
+   */
+  @Nullable
+  default Ingredient getToolFilter() {
+    return null;
+  }
+
+  /**
+   * Gets an ingredient at least one non-empty input must match for {@link #matches(ITinkerStationContainer, Level)} to be true, unless a crystal from {@link #getCrystalFilter()} is present.
+   * {@link Ingredient#EMPTY} means only crystals match.
+   * @return  Input filter, or null if any inputs may match. Ignored if the ingredient is not simple.
+   */
+  @Nullable
+  default Ingredient getInputFilter() {
+    return null;
+  }
+
+  /**
+   * Gets the modifier for crystals that match this recipe in place of the {@link #getInputFilter()}.
+   * @return  Crystal modifier, or null if crystals are not accepted.
+   */
+  @Nullable
+  default ModifierId getCrystalFilter() {
+    return null;
+  }
+
   /**
    * Gets the recipe result. Return {@link ItemStack#EMPTY) to represent {@link RecipeResult#PASS}, or a non-empty stack to represent success.
    * For more complex recipes, override {@link #getValidatedResult(ITinkerStationContainer)} instead.
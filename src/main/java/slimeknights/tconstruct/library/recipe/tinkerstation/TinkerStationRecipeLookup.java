@@ -0,0 +1,214 @@
+package slimeknights.tconstruct.library.recipe.tinkerstation;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.modifiers.ModifierId;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+import slimeknights.tconstruct.tools.TinkerModifiers;
+import slimeknights.tconstruct.tools.item.ModifierCrystalItem;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Lookup for tinker station recipes, skipping recipes whose tool, input, or crystal filters cannot match before running the full match.
+ * Indexes are created lazily per recipe manager, and cleared on tag reload as most filters are tags.
+ * @see ITinkerStationRecipe#getToolFilter()
+ * @see ITinkerStationRecipe#getInputFilter()
+ * @see ITinkerStationRecipe#getCrystalFilter()
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TinkerStationRecipeLookup {
+  /** Index for each recipe manager, weak so old managers are released on reload */
+  private static final Map<RecipeManager,RecipeIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> INDEXES.clear());
+    MinecraftForge.EVENT_BUS.addListener((TagsUpdatedEvent event) -> INDEXES.clear());
+  }
+
+  /** Gets the index for the given manager */
+  private static RecipeIndex getIndex(RecipeManager manager) {
+    synchronized (INDEXES) {
+      return INDEXES.computeIfAbsent(manager, RecipeIndex::new);
+    }
+  }
+
+  /**
+   * Finds the first recipe matching the given inventory, in the same order as {@link RecipeManager#getRecipeFor(net.minecraft.world.item.crafting.RecipeType, net.minecraft.world.Container, Level)}
+   * @param manager  Recipe manager
+   * @param inv      Tinker station inventory
+   * @param level    Level instance
+   * @return  Matching recipe, or null if none match
+   */
+  @Nullable
+  public static ITinkerStationRecipe findRecipe(RecipeManager manager, ITinkerStationContainer inv, Level level) {
+    return getIndex(manager).findRecipe(inv, level);
+  }
+
+  /** Gets the list of items matching the given filter, or null if the filter cannot be indexed */
+  @Nullable
+  private static Set<Item> getItems(@Nullable Ingredient filter) {
+    if (filter == null || !filter.isSimple()) {
+      return null;
+    }
+    if (filter.isEmpty()) {
+      return Set.of();
+    }
+    return Arrays.stream(filter.getItems()).map(ItemStack::getItem).collect(Collectors.toSet());
+  }
+
+  /** Input filters for a single recipe */
+  private record InputFilter(@Nullable Set<Item> items, @Nullable ModifierId crystal) {}
+
+  /** Candidates for a single tool item, as indices into the recipe array. Each recipe is in either {@link #anyInput} or the input maps */
+  private record Candidates(IntList anyInput, Map<Item,IntList> byInput, Map<ModifierId,IntList> byCrystal) {}
+
+  /** Index of recipes for a single recipe manager */
+  static class RecipeIndex {
+    /** All recipes in manager order */
+    private final ITinkerStationRecipe[] recipes;
+    /** Input filters matching each recipe */
+    private final InputFilter[] filters;
+    /** Recipes that may match any tool */
+    private final IntList anyTool = new IntArrayList();
+    /** Recipes for each tool item, {@link Items#AIR} for recipes requiring an empty slot */
+    private final Map<Item,IntList> byTool = new IdentityHashMap<>();
+    /** Candidates for each tool item */
+    private final Map<Item,Candidates> candidates = new ConcurrentHashMap<>();
+
+    private RecipeIndex(RecipeManager manager) {
+      this(List.copyOf(manager.byType(TinkerRecipeTypes.TINKER_STATION.get()).values()));
+    }
+
+    /** Creates an index for the given recipes, in manager order */
+    RecipeIndex(List<ITinkerStationRecipe> list) {
+      int size = list.size();
+      this.recipes = list.toArray(new ITinkerStationRecipe[0]);
+      this.filters = new InputFilter[size];
+      for (int i = 0; i < size; i++) {
+        ITinkerStationRecipe recipe = recipes[i];
+        Ingredient toolFilter = recipe.getToolFilter();
+        Set<Item> tools = getItems(toolFilter);
+        if (tools == null) {
+          anyTool.add(i);
+        } else if (toolFilter.isEmpty()) {
+          byTool.computeIfAbsent(Items.AIR, item -> new IntArrayList()).add(i);
+        } else {
+          for (Item tool : tools) {
+            byTool.computeIfAbsent(tool, item -> new IntArrayList()).add(i);
+          }
+        }
+        filters[i] = new InputFilter(getItems(recipe.getInputFilter()), recipe.getCrystalFilter());
+      }
+    }
+
+    /** Builds the candidates for the given tool item */
+    private Candidates getCandidates(Item tool) {
+      return candidates.computeIfAbsent(tool, item -> {
+        // merge recipes for this tool with recipes for all tools, keeping manager order
+        IntList toolRecipes = byTool.get(item);
+        int[] indices;
+        if (toolRecipes == null) {
+          indices = anyTool.toIntArray();
+        } else {
+          IntList merged = new IntArrayList(anyTool);
+          merged.addAll(toolRecipes);
+          indices = merged.toIntArray();
+          Arrays.sort(indices);
+        }
+        IntList anyInput = new IntArrayList();
+        Map<Item,IntList> byInput = new IdentityHashMap<>();
+        Map<ModifierId,IntList> byCrystal = new HashMap<>();
+        for (int i : indices) {
+          InputFilter filter = filters[i];
+          if (filter.items == null) {
+            anyInput.add(i);
+          } else {
+            for (Item input : filter.items) {
+              byInput.computeIfAbsent(input, key -> new IntArrayList()).add(i);
+            }
+            if (filter.crystal != null) {
+              byCrystal.computeIfAbsent(filter.crystal, key -> new IntArrayList()).add(i);
+            }
+          }
+        }
+        return new Candidates(anyInput, byInput, byCrystal);
+      });
+    }
+
+    /** Finds the first recipe matching the inventory */
+    @Nullable
+    ITinkerStationRecipe findRecipe(ITinkerStationContainer inv, Level level) {
+      Candidates candidates = getCandidates(inv.getTinkerableStack().getItem());
+      // collect recipes filtered by the present inputs
+      IntList filtered = new IntArrayList();
+      Item crystal = null;
+      for (int i = 0; i < inv.getInputCount(); i++) {
+        ItemStack stack = inv.getInput(i);
+        if (!stack.isEmpty()) {
+          Item item = stack.getItem();
+          IntList list = candidates.byInput.get(item);
+          if (list != null) {
+            filtered.addAll(list);
+          }
+          if (crystal == null) {
+            crystal = TinkerModifiers.modifierCrystal.asItem();
+          }
+          if (item == crystal) {
+            ModifierId modifier = ModifierCrystalItem.getModifier(stack);
+            if (modifier != null) {
+              list = candidates.byCrystal.get(modifier);
+              if (list != null) {
+                filtered.addAll(list);
+              }
+            }
+          }
+        }
+      }
+      int[] sorted = filtered.toIntArray();
+      Arrays.sort(sorted);
+
+      // merge the filtered recipes with the unfiltered ones in manager order, filtered may contain duplicates
+      IntList anyInput = candidates.anyInput;
+      int anySize = anyInput.size();
+      int a = 0, f = 0, last = -1;
+      while (a < anySize || f < sorted.length) {
+        int next;
+        if (f == sorted.length || (a < anySize && anyInput.getInt(a) < sorted[f])) {
+          next = anyInput.getInt(a++);
+        } else {
+          next = sorted[f++];
+        }
+        if (next != last) {
+          last = next;
+          ITinkerStationRecipe recipe = recipes[next];
+          if (recipe.matches(inv, level)) {
+            return recipe;
+          }
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -91,6 +91,12 @@ public class ToolBuildingRecipe implements ITinkerStationRecipe {
     return true;
   }
 
+  @Override
+  public Ingredient getToolFilter() {
+    // tool building requires an empty tinkerable slot
+    return Ingredient.EMPTY;
+  }
+
   @Override
   public ItemStack assemble(ITinkerStationContainer inv) {
     // first n slots contain parts
@@ -3,6 +3,7 @@ package slimeknights.tconstruct.library.recipe.tinkerstation.repairing;
 import lombok.Getter;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.level.Level;
 import slimeknights.mantle.data.loadable.field.ContextKey;
@@ -19,6 +20,8 @@ import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.tables.recipe.TinkerStationRepairRecipe;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
+import javax.annotation.Nullable;
+
 /**
  * Recipe to repair a specialized tool in the tinker station
  */
@@ -58,6 +61,13 @@ public class ModifierMaterialRepairRecipe extends TinkerStationRepairRecipe impl
     return findMaterialItem(inv, repairMaterial.getId());
   }
 
+  /** Any modifiable tool with the modifier may be repaired, so the durability filter from the parent does not apply */
+  @Nullable
+  @Override
+  public Ingredient getToolFilter() {
+    return null;
+  }
+
   @Override
   protected float getRepairAmount(IToolStackView tool, MaterialId repairMaterial) {
     return MaterialRepairModule.getDurability(tool.getDefinition().getId(), repairMaterial, statType) * tool.getModifierLevel(modifier);
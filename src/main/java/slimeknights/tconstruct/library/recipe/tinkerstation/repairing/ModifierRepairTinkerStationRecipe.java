@@ -48,6 +48,16 @@ public class ModifierRepairTinkerStationRecipe implements ITinkerStationRecipe,
     return IncrementalModifierRecipe.containsOnlyIngredient(inv, ingredient);
   }
 
+  @Override
+  public Ingredient getToolFilter() {
+    return Ingredient.of(TinkerTags.Items.DURABILITY);
+  }
+
+  @Override
+  public Ingredient getInputFilter() {
+    return ingredient;
+  }
+
   @Override
   public RecipeResult<ItemStack> getValidatedResult(ITinkerStationContainer inv) {
     ToolStack tool = ToolStack.from(inv.getTinkerableStack());
@@ -1,9 +1,9 @@
 package slimeknights.tconstruct.library.tools.capability;
 
-import lombok.Getter;
-import lombok.Setter;
 import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.Entity;
 import net.minecraftforge.common.MinecraftForge;
@@ -18,14 +18,23 @@ import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.tools.nbt.ModifierNBT;
+import slimeknights.tconstruct.library.tools.nbt.NamespacedNBT;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.function.Predicate;
 
-/** Capability to allow an entity to store modifiers, used on projectiles fired from modifiable items */
+/**
+ * Capability to allow an entity to store modifiers, used on projectiles fired from modifiable items.
+ * The capability only parses its modifiers when first requested, so projectiles not launched from modifiable items such as skeleton arrows never touch modifier NBT.
+ * Entities without the capability may still store modifiers using {@link #setModifiers(Entity, ModifierNBT)}.
+ */
 public class EntityModifierCapability {
   /** Default instance to use with orElse */
   public static final EntityModifiers EMPTY = new EntityModifiers() {
@@ -50,11 +59,69 @@ public class EntityModifierCapability {
   /** Capability type */
   public static final Capability<EntityModifiers> CAPABILITY = CapabilityManager.get(new CapabilityToken<>() {});
 
+  /* Entities without the capability */
+
+  /** Key for data stored in {@link Entity#getPersistentData()} for launched entities without the capability */
+  private static final String KEY_MODIFIERS = ID.toString();
+  /** Key for persistent modifier data stored in {@link Entity#getPersistentData()} for launched entities without the capability */
+  private static final String KEY_PERSISTENT_DATA = TConstruct.resourceString("persistent_data");
+  /** Entity tag marking an entity as having modifiers in its persistent data. Tags are saved by vanilla, so checking them is cheap and works after reloading */
+  private static final String MARKER_TAG = TConstruct.MOD_ID + ".modifiers";
+  /** Parsed modifiers for launched entities without the capability, avoids reparsing NBT on every hit */
+  private static final Map<Entity,ModifierNBT> LAUNCHED = Collections.synchronizedMap(new WeakHashMap<>());
+
   /** Gets the data or an empty instance if missing */
   public static ModifierNBT getOrEmpty(Entity entity) {
+    ModifierNBT modifiers = LAUNCHED.get(entity);
+    if (modifiers != null) {
+      return modifiers;
+    }
+    // entity was launched before the world was saved, restore from NBT
+    if (entity.getTags().contains(MARKER_TAG)) {
+      modifiers = ModifierNBT.readFromNBT(entity.getPersistentData().getList(KEY_MODIFIERS, Tag.TAG_COMPOUND));
+      LAUNCHED.put(entity, modifiers);
+      return modifiers;
+    }
     return entity.getCapability(CAPABILITY).orElse(EMPTY).getModifiers();
   }
 
+  /**
+   * Sets the modifiers on an entity launched from a modifiable item, using the capability if present
+   * @param entity     Entity, typically a projectile
+   * @param modifiers  Modifiers to store
+   */
+  public static void setModifiers(Entity entity, ModifierNBT modifiers) {
+    Optional<EntityModifiers> capability = entity.getCapability(CAPABILITY).resolve();
+    if (capability.isPresent()) {
+      capability.get().setModifiers(modifiers);
+    } else {
+      entity.addTag(MARKER_TAG);
+      entity.getPersistentData().put(KEY_MODIFIERS, modifiers.serializeToNBT());
+      LAUNCHED.put(entity, modifiers);
+    }
+  }
+
+  /**
+   * Gets persistent modifier data for an entity launched from a modifiable item.
+   * For entities without modifiers, returns a new instance that is not saved.
+   * @param entity  Entity, typically a projectile
+   * @return  Persistent data instance
+   */
+  public static NamespacedNBT getPersistentData(Entity entity) {
+    Optional<NamespacedNBT> capability = entity.getCapability(PersistentDataCapability.CAPABILITY).resolve();
+    if (capability.isPresent()) {
+      return capability.get();
+    }
+    if (entity.getTags().contains(MARKER_TAG)) {
+      CompoundTag forgeData = entity.getPersistentData();
+      if (!forgeData.contains(KEY_PERSISTENT_DATA, Tag.TAG_COMPOUND)) {
+        forgeData.put(KEY_PERSISTENT_DATA, new CompoundTag());
+      }
+      return NamespacedNBT.readFromNBT(forgeData.getCompound(KEY_PERSISTENT_DATA));
+    }
+    return new NamespacedNBT();
+  }
+
   /** Checks if the given entity supports this capability */
   public static boolean supportCapability(Entity entity) {
     for (Predicate<Entity> entityPredicate : ENTITY_PREDICATES) {
@@ -87,8 +154,12 @@ public class EntityModifierCapability {
 
   /** Capability provider instance */
   private static class Provider implements ICapabilitySerializable<ListTag>, Runnable, EntityModifiers {
-    @Getter @Setter
+    /** Modifiers, null if not yet parsed from {@link #tag} */
+    @Nullable
     private ModifierNBT modifiers = ModifierNBT.EMPTY;
+    /** Saved modifiers waiting to be parsed, null once parsed */
+    @Nullable
+    private ListTag tag = null;
     private LazyOptional<EntityModifiers> capability;
     private Provider() {
       this.capability = LazyOptional.of(() -> this);
@@ -107,14 +178,40 @@ public class EntityModifierCapability {
       capability = LazyOptional.of(() -> this);
     }
 
+    @Override
+    public ModifierNBT getModifiers() {
+      if (modifiers == null) {
+        modifiers = tag == null ? ModifierNBT.EMPTY : ModifierNBT.readFromNBT(tag);
+        tag = null;
+      }
+      return modifiers;
+    }
+
+    @Override
+    public void setModifiers(ModifierNBT modifiers) {
+      this.modifiers = modifiers;
+      this.tag = null;
+    }
+
     @Override
     public ListTag serializeNBT() {
-      return modifiers.serializeToNBT();
+      // unparsed data is saved back unchanged
+      if (modifiers == null && tag != null) {
+        return tag.copy();
+      }
+      return getModifiers().serializeToNBT();
     }
 
     @Override
     public void deserializeNBT(ListTag nbt) {
-      modifiers = ModifierNBT.readFromNBT(nbt);
+      // most projectiles never read their modifiers, so wait to parse until requested
+      if (nbt.isEmpty()) {
+        modifiers = ModifierNBT.EMPTY;
+        tag = null;
+      } else {
+        modifiers = null;
+        tag = nbt.copy();
+      }
       run();
     }
   }
@@ -1,7 +1,6 @@
 package slimeknights.tconstruct.library.tools.capability;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.Entity;
@@ -21,8 +20,8 @@ import slimeknights.tconstruct.TConstruct;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.IdentityHashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -86,11 +85,25 @@ public class TinkerDataCapability {
 
   /** Class for generic keys */
   @SuppressWarnings("unused")
-  @RequiredArgsConstructor(staticName = "of")
   public static class TinkerDataKey<T> implements IdAwareObject {
+    /** Number of keys created so far, used to assign indices */
+    private static final AtomicInteger KEY_COUNT = new AtomicInteger();
+
     /** Name for debug */
     @Getter
     private final ResourceLocation id;
+    /** Dense index of this key, used as the slot in {@link Holder} */
+    private final int index;
+
+    protected TinkerDataKey(ResourceLocation id) {
+      this.id = id;
+      this.index = KEY_COUNT.getAndIncrement();
+    }
+
+    /** Creates a new key */
+    public static <T> TinkerDataKey<T> of(ResourceLocation id) {
+      return new TinkerDataKey<>(id);
+    }
 
     @Override
     public String toString() {
@@ -118,9 +131,42 @@ public class TinkerDataCapability {
   }
 
 
-  /** Data class holding the tinker data */
+  /**
+   * Data class holding the tinker data.
+   * Values are stored in an array indexed by {@link TinkerDataKey#index}, allocated on the first write so entities without data stay small.
+   * Integers written using the int methods are stored unboxed.
+   */
   public static class Holder {
-    private final Map<TinkerDataKey<?>, Object> data = new IdentityHashMap<>();
+    /** Marker in {@link #data} indicating the value is stored in {@link #ints} */
+    private static final Object INT_VALUE = new Object();
+    private static final Object[] EMPTY_DATA = new Object[0];
+    private static final int[] EMPTY_INTS = new int[0];
+
+    /** Values for each key, null means missing */
+    private Object[] data = EMPTY_DATA;
+    /** Unboxed integer values for each key, only valid if the matching data slot is {@link #INT_VALUE} */
+    private int[] ints = EMPTY_INTS;
+
+    /** Gets the raw value for the given key */
+    @Nullable
+    private Object getRaw(TinkerDataKey<?> key) {
+      int index = key.index;
+      if (index >= data.length) {
+        return null;
+      }
+      Object value = data[index];
+      if (value == INT_VALUE) {
+        return ints[index];
+      }
+      return value;
+    }
+
+    /** Ensures the data array can hold the given key */
+    private void ensureCapacity(TinkerDataKey<?> key) {
+      if (key.index >= data.length) {
+        data = Arrays.copyOf(data, Math.max(key.index + 1, TinkerDataKey.KEY_COUNT.get()));
+      }
+    }
 
     /**
      * Adds a value to the holder
@@ -129,7 +175,44 @@ public class TinkerDataCapability {
      * @param <T>    Data type
      */
     public <T> void put(TinkerDataKey<T> key, T value) {
-      data.put(key, value);
+      ensureCapacity(key);
+      data[key.index] = value;
+    }
+
+    /**
+     * Adds an integer value to the holder without boxing
+     * @param key    Key to add
+     * @param value  Value to add
+     */
+    public void putInt(TinkerDataKey<Integer> key, int value) {
+      ensureCapacity(key);
+      int index = key.index;
+      if (index >= ints.length) {
+        ints = Arrays.copyOf(ints, data.length);
+      }
+      data[index] = INT_VALUE;
+      ints[index] = value;
+    }
+
+    /**
+     * Gets an integer value from the holder without boxing
+     * @param key           Key to fetch
+     * @param defaultValue  Value if missing
+     * @return  Value or default
+     */
+    public int getInt(TinkerDataKey<Integer> key, int defaultValue) {
+      int index = key.index;
+      if (index >= data.length) {
+        return defaultValue;
+      }
+      Object value = data[index];
+      if (value == INT_VALUE) {
+        return ints[index];
+      }
+      if (value instanceof Integer i) {
+        return i;
+      }
+      return defaultValue;
     }
 
     /**
@@ -140,9 +223,9 @@ public class TinkerDataCapability {
     public void add(TinkerDataKey<Float> key, float value) {
       float newValue = get(key, 0f) + value;
       if (newValue == 0) {
-        data.remove(key);
+        remove(key);
       } else {
-        data.put(key, newValue);
+        put(key, newValue);
       }
     }
 
@@ -151,7 +234,9 @@ public class TinkerDataCapability {
      * @param key  Key to remove
      */
     public void remove(TinkerDataKey<?> key) {
-      data.remove(key);
+      if (key.index < data.length) {
+        data[key.index] = null;
+      }
     }
 
     /**
@@ -163,7 +248,8 @@ public class TinkerDataCapability {
      */
     @SuppressWarnings("unchecked")
     public <S, T extends S> S get(TinkerDataKey<T> key, S defaultValue) {
-      return (T) data.getOrDefault(key, defaultValue);
+      Object value = getRaw(key);
+      return value == null ? defaultValue : (T) value;
     }
 
     /**
@@ -175,13 +261,21 @@ public class TinkerDataCapability {
     @Nullable
     @SuppressWarnings("unchecked")
     public <T> T get(TinkerDataKey<T> key) {
-      return (T) data.get(key);
+      return (T) getRaw(key);
     }
 
     /** Gets the value from the holder, creating it if missing */
     @SuppressWarnings("unchecked")
     public <T> T computeIfAbsent(TinkerDataKey<T> key, Function<TinkerDataKey<?>,T> constructor) {
-      return (T) data.computeIfAbsent(key, constructor);
+      Object value = getRaw(key);
+      if (value == null) {
+        T created = constructor.apply(key);
+        if (created != null) {
+          put(key, created);
+        }
+        return created;
+      }
+      return (T) value;
     }
 
     /** Gets the value from the holder, creating it if missing */
@@ -195,7 +289,7 @@ public class TinkerDataCapability {
      * @return  true if present
      */
     public boolean contains(TinkerDataKey<?> key) {
-      return data.containsKey(key);
+      return key.index < data.length && data[key.index] != null;
     }
   }
 }
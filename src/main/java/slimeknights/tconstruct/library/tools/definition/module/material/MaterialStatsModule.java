@@ -10,9 +10,11 @@ import slimeknights.mantle.data.loadable.record.RecordLoadable;
 import slimeknights.tconstruct.library.json.field.OptionallyNestedLoadable;
 import slimeknights.tconstruct.library.materials.IMaterialRegistry;
 import slimeknights.tconstruct.library.materials.MaterialRegistry;
+import slimeknights.tconstruct.library.materials.definition.IMaterial;
 import slimeknights.tconstruct.library.materials.definition.MaterialId;
 import slimeknights.tconstruct.library.materials.stats.IMaterialStats;
 import slimeknights.tconstruct.library.materials.stats.MaterialStatsId;
+import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.module.HookProvider;
 import slimeknights.tconstruct.library.module.ModuleHook;
 import slimeknights.tconstruct.library.tools.definition.ToolDefinition;
@@ -26,8 +28,12 @@ import slimeknights.tconstruct.library.tools.nbt.MaterialNBT;
 import slimeknights.tconstruct.library.tools.nbt.ModifierNBT;
 import slimeknights.tconstruct.library.tools.stat.ModifierStatsBuilder;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.IntToDoubleFunction;
 import java.util.stream.IntStream;
 
@@ -45,6 +51,16 @@ public class MaterialStatsModule implements ToolStatsHook, ToolTraitHook, ToolMa
   private int[] repairIndices;
   private float maxRepairScale = 0;
 
+  /** Max number of material lists to cache before clearing */
+  private static final int MAX_CACHE_SIZE = 1024;
+  /** Cache of stats and traits for each material list, as they only change when materials reload */
+  private final Map<List<MaterialId>,MaterialContribution> contributions = new ConcurrentHashMap<>();
+  /** Registry used for the cached contributions */
+  @Nullable
+  private IMaterialRegistry cachedRegistry;
+  /** Value of {@link MaterialRegistry#getLoadVersion()} for the cached contributions */
+  private int cachedVersion;
+
   public MaterialStatsModule(List<MaterialStatsId> statTypes, float[] scales) {
     this.statTypes = statTypes;
     this.scales = scales;
@@ -112,39 +128,74 @@ public class MaterialStatsModule implements ToolStatsHook, ToolTraitHook, ToolMa
     return getRepair(tool, material, i -> MaterialRepairModule.getDurability(toolId, material, statTypes.get(i)) * scales[i]);
   }
 
+  /** Computes the stats and traits for the given materials */
+  private MaterialContribution computeContribution(IMaterialRegistry registry, List<MaterialId> materials) {
+    ModifierStatsBuilder stats = ModifierStatsBuilder.recorder();
+    List<ModifierEntry> traits = new ArrayList<>();
+    for (int i = 0; i < statTypes.size(); i++) {
+      MaterialStatsId statType = statTypes.get(i);
+      // missing materials use the unknown material, which typically has no stats
+      MaterialId material = i < materials.size() ? materials.get(i) : IMaterial.UNKNOWN_ID;
+      // apply the stats if they exist for the material
+      Optional<IMaterialStats> materialStats = registry.getMaterialStats(material, statType);
+      if (materialStats.isPresent()) {
+        materialStats.get().apply(stats, scales[i]);
+      } else {
+        // fallback to the default stats if present
+        IMaterialStats defaultStats = registry.getDefaultStats(statType);
+        if (defaultStats != null) {
+          defaultStats.apply(stats, scales[i]);
+        }
+      }
+      // traits are only added for materials present on the tool
+      if (i < materials.size()) {
+        traits.addAll(registry.getTraits(material, statType));
+      }
+    }
+    return new MaterialContribution(stats, List.copyOf(traits));
+  }
+
+  /**
+   * Gets the stats and traits for the given materials, computing them if not cached.
+   * @param materials  Materials on the tool, must not be empty
+   */
+  private MaterialContribution getContribution(MaterialNBT materials) {
+    IMaterialRegistry registry = MaterialRegistry.getInstance();
+    int version = MaterialRegistry.getLoadVersion();
+    synchronized (contributions) {
+      if (cachedRegistry != registry || cachedVersion != version || contributions.size() > MAX_CACHE_SIZE) {
+        contributions.clear();
+        cachedRegistry = registry;
+        cachedVersion = version;
+      }
+    }
+    // stats and traits only depend on the material, not the variant
+    int size = Math.min(materials.size(), statTypes.size());
+    MaterialId[] key = new MaterialId[size];
+    for (int i = 0; i < size; i++) {
+      key[i] = materials.get(i).getId();
+    }
+    return contributions.computeIfAbsent(List.of(key), ids -> computeContribution(registry, ids));
+  }
+
   @Override
   public void addToolStats(IToolContext context, ModifierStatsBuilder builder) {
     MaterialNBT materials = context.getMaterials();
-    if (materials.size() > 0) {
-      IMaterialRegistry registry = MaterialRegistry.getInstance();
-      for (int i = 0; i < statTypes.size(); i++) {
-        MaterialStatsId statType = statTypes.get(i);
-        // apply the stats if they exist for the material
-        Optional<IMaterialStats> stats = registry.getMaterialStats(materials.get(i).getId(), statType);
-        if (stats.isPresent()) {
-          stats.get().apply(builder, scales[i]);
-        } else {
-          // fallback to the default stats if present
-          IMaterialStats defaultStats = registry.getDefaultStats(statType);
-          if (defaultStats != null) {
-            defaultStats.apply(builder, scales[i]);
-          }
-        }
-      }
+    if (materials.size() > 0 && !statTypes.isEmpty()) {
+      getContribution(materials).stats.replay(builder);
     }
   }
 
   @Override
   public void addTraits(ToolDefinition definition, MaterialNBT materials, ModifierNBT.Builder builder) {
-    int max = Math.min(materials.size(), statTypes.size());
-    if (max > 0) {
-      IMaterialRegistry materialRegistry = MaterialRegistry.getInstance();
-      for (int i = 0; i < max; i++) {
-        builder.add(materialRegistry.getTraits(materials.get(i).getId(), statTypes.get(i)));
-      }
+    if (materials.size() > 0 && !statTypes.isEmpty()) {
+      builder.add(getContribution(materials).traits);
     }
   }
 
+  /** Stats and traits added by a list of materials */
+  private record MaterialContribution(ModifierStatsBuilder stats, List<ModifierEntry> traits) {}
+
 
   /* Builder */
 
@@ -13,6 +13,7 @@ import slimeknights.tconstruct.library.module.HookProvider;
 import slimeknights.tconstruct.library.tools.context.ToolAttackContext;
 import slimeknights.tconstruct.library.tools.definition.module.ToolHooks;
 import slimeknights.tconstruct.library.tools.definition.module.ToolModule;
+import slimeknights.tconstruct.library.tools.helper.ToolAttackSnapshot;
 import slimeknights.tconstruct.library.tools.helper.ToolAttackUtil;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.tools.TinkerModifiers;
@@ -45,13 +46,25 @@ public record CircleWeaponAttack(float diameter) implements MeleeHitToolHook, To
         double rangeSq = range * range;
         LivingEntity attacker = context.getAttacker();
         Entity target = context.getTarget();
+        // attacker values are the same for every target, so compute them once for the swing
+        // snapshot stays null if the tool cannot attack, in which case targets still take knockback
+        ToolAttackSnapshot snapshot = null;
+        boolean createdSnapshot = false;
+        float angle = attacker.getYRot() * ((float)Math.PI / 180F);
+        double knockbackX = Mth.sin(angle);
+        double knockbackZ = -Mth.cos(angle);
         for (LivingEntity aoeTarget : attacker.level.getEntitiesOfClass(LivingEntity.class, target.getBoundingBox().inflate(range, 0.25D, range))) {
           if (aoeTarget != attacker && aoeTarget != target && !attacker.isAlliedTo(aoeTarget)
               && !(aoeTarget instanceof ArmorStand stand && stand.isMarker()) && target.distanceToSqr(aoeTarget) < rangeSq) {
-            float angle = attacker.getYRot() * ((float)Math.PI / 180F);
-            aoeTarget.knockback(0.4F, Mth.sin(angle), -Mth.cos(angle));
+            aoeTarget.knockback(0.4F, knockbackX, knockbackZ);
+            if (!createdSnapshot) {
+              snapshot = ToolAttackSnapshot.create(tool, attacker, context.getHand());
+              createdSnapshot = true;
+            }
             // TODO: do we want to bring back the behavior where circle returns success if any AOE target is hit?
-            ToolAttackUtil.extraEntityAttack(tool, attacker, context.getHand(), aoeTarget);
+            if (snapshot != null) {
+              ToolAttackUtil.extraEntityAttack(snapshot, aoeTarget);
+            }
           }
         }
 
@@ -47,11 +47,14 @@ public record SweepWeaponAttack(float range) implements MeleeHitToolHook, ToolMo
       // if the modifier is missing, sweeping damage will be 0, so easiest to let it fully control this
       float sweepDamage = TinkerModifiers.sweeping.get().getSweepingDamage(tool, damage);
       Entity target = context.getTarget();
+      // sweep damage skips the modifier hooks, so all that is left to share between targets is the knockback direction
+      float angle = attacker.getYRot() * ((float) Math.PI / 180F);
+      double knockbackX = Mth.sin(angle);
+      double knockbackZ = -Mth.cos(angle);
       for (LivingEntity aoeTarget : attacker.level.getEntitiesOfClass(LivingEntity.class, target.getBoundingBox().inflate(range, 0.25D, range))) {
         if (aoeTarget != attacker && aoeTarget != target && !attacker.isAlliedTo(aoeTarget)
             && !(aoeTarget instanceof ArmorStand armorStand && armorStand.isMarker()) && attacker.distanceToSqr(aoeTarget) < rangeSq) {
-          float angle = attacker.getYRot() * ((float) Math.PI / 180F);
-          aoeTarget.knockback(0.4F, Mth.sin(angle), -Mth.cos(angle));
+          aoeTarget.knockback(0.4F, knockbackX, knockbackZ);
           ToolAttackUtil.dealDefaultDamage(attacker, aoeTarget, sweepDamage);
         }
       }
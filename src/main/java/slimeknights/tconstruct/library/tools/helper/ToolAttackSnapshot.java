@@ -0,0 +1,100 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.player.Player;
+import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHooks;
+import slimeknights.tconstruct.library.modifiers.hook.combat.MeleeDamageModifierHook;
+import slimeknights.tconstruct.library.modifiers.hook.combat.MeleeHitModifierHook;
+import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
+import slimeknights.tconstruct.library.tools.stat.ToolStats;
+import slimeknights.tconstruct.library.utils.Util;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Attacker side values for a melee attack, which do not depend on the target.
+ * Computed once per swing so AOE attacks such as {@link slimeknights.tconstruct.library.tools.definition.module.weapon.CircleWeaponAttack} can hit many targets without recomputing attributes or hooks.
+ * Target specific logic, including damage events and modifier hooks, still runs for each target in {@link ToolAttackUtil#attackEntity(ToolAttackSnapshot, net.minecraft.world.entity.Entity, java.util.function.DoubleSupplier, boolean)}.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ToolAttackSnapshot {
+  /** Tool performing the attack */
+  private final IToolStackView tool;
+  /** Entity doing the attacking */
+  private final LivingEntity attacker;
+  /** Player doing the attacking, null if not a player */
+  @Nullable
+  private final Player player;
+  /** Hand containing the tool */
+  private final InteractionHand hand;
+  /** Slot containing the tool */
+  private final EquipmentSlot slot;
+  /** Attack damage from attributes, before modifier hooks */
+  private final float baseDamage;
+  /** Knockback from the attacker attribute, already halved */
+  private final float knockback;
+  /** Hurt resistance time based on the tool attack speed */
+  private final int invulnerableTime;
+  /** Modifiers on the tool, matching indices with the hook arrays */
+  @Getter(AccessLevel.PACKAGE)
+  private final List<ModifierEntry> modifiers;
+  /** Melee damage hooks for each modifier */
+  @Getter(AccessLevel.PACKAGE)
+  private final MeleeDamageModifierHook[] damageHooks;
+  /** Melee hit hooks for each modifier */
+  @Getter(AccessLevel.PACKAGE)
+  private final MeleeHitModifierHook[] hitHooks;
+
+  /**
+   * Creates a snapshot for the given attacker. Does not validate the tool, see {@link #create(IToolStackView, LivingEntity, InteractionHand)} for that.
+   * @param tool      Tool instance
+   * @param attacker  Attacker
+   * @param hand      Hand containing the tool
+   * @param slot      Slot containing the tool
+   * @return  Snapshot instance
+   */
+  static ToolAttackSnapshot of(IToolStackView tool, LivingEntity attacker, InteractionHand hand, EquipmentSlot slot) {
+    List<ModifierEntry> modifiers = tool.getModifierList();
+    int size = modifiers.size();
+    MeleeDamageModifierHook[] damageHooks = new MeleeDamageModifierHook[size];
+    MeleeHitModifierHook[] hitHooks = new MeleeHitModifierHook[size];
+    for (int i = 0; i < size; i++) {
+      ModifierEntry entry = modifiers.get(i);
+      damageHooks[i] = entry.getHook(ModifierHooks.MELEE_DAMAGE);
+      hitHooks[i] = entry.getHook(ModifierHooks.MELEE_HIT);
+    }
+    // players base damage (includes tools damage stat)
+    // hack for offhand attributes: remove mainhand temporarily, and apply offhand
+    float damage = ToolAttackUtil.getAttributeAttackDamage(tool, attacker, slot);
+    // forge patches in the knockback attribute for use on players
+    // vanilla halves the knockback attribute later, we half it in all our hooks, so halving the attribute makes it equivelent
+    float knockback = (float)attacker.getAttributeValue(Attributes.ATTACK_KNOCKBACK) / 2f;
+    // hurt resistance adjustment for high speed weapons
+    int time = Math.round(20f / tool.getStats().get(ToolStats.ATTACK_SPEED));
+    return new ToolAttackSnapshot(tool, attacker, attacker instanceof Player player ? player : null, hand, slot, damage, knockback, time, modifiers, damageHooks, hitHooks);
+  }
+
+  /**
+   * Creates a snapshot for attacking several targets with the given tool
+   * @param tool      Tool instance
+   * @param attacker  Attacker
+   * @param hand      Hand containing the tool
+   * @return  Snapshot, or null if the tool cannot attack
+   */
+  @Nullable
+  public static ToolAttackSnapshot create(IToolStackView tool, LivingEntity attacker, InteractionHand hand) {
+    if (!ToolAttackUtil.canAttack(tool, attacker)) {
+      return null;
+    }
+    return of(tool, attacker, hand, Util.getSlotType(hand));
+  }
+}
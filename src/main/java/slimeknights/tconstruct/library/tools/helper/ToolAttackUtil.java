@@ -35,6 +35,8 @@ import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierHooks;
+import slimeknights.tconstruct.library.modifiers.hook.combat.MeleeDamageModifierHook;
+import slimeknights.tconstruct.library.modifiers.hook.combat.MeleeHitModifierHook;
 import slimeknights.tconstruct.library.tools.context.ToolAttackContext;
 import slimeknights.tconstruct.library.tools.definition.module.weapon.MeleeHitToolHook;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
@@ -171,17 +173,33 @@ public class ToolAttackUtil {
     if (attackerLiving.level.isClientSide || !targetEntity.isAttackable() || targetEntity.skipAttackInteraction(attackerLiving)) {
       return true;
     }
+    return attackEntity(ToolAttackSnapshot.of(tool, attackerLiving, hand, sourceSlot), targetEntity, cooldownFunction, isExtraAttack);
+  }
+
+  /** Checks if the given tool is able to attack at all, does not consider the target */
+  static boolean canAttack(IToolStackView tool, LivingEntity attacker) {
+    return !tool.isBroken() && tool.hasTag(TinkerTags.Items.MELEE) && !attacker.level.isClientSide;
+  }
+
+  /**
+   * Attack logic after validating the tool and target, using attacker values from the snapshot.
+   * @param snapshot          Attacker side values, may be shared between several targets
+   * @param targetEntity      Entity to attack
+   * @param cooldownFunction  Attack cooldown
+   * @param isExtraAttack     If true, this is a secondary attack
+   * @return  True if hit
+   */
+  public static boolean attackEntity(ToolAttackSnapshot snapshot, Entity targetEntity, DoubleSupplier cooldownFunction, boolean isExtraAttack) {
+    IToolStackView tool = snapshot.getTool();
+    LivingEntity attackerLiving = snapshot.getAttacker();
+    EquipmentSlot sourceSlot = snapshot.getSlot();
 
     // fetch relevant entities
     LivingEntity targetLiving = getLivingEntity(targetEntity);
-    Player attackerPlayer = null;
-    if (attackerLiving instanceof Player player) {
-      attackerPlayer = player;
-    }
+    Player attackerPlayer = snapshot.getPlayer();
 
-    // players base damage (includes tools damage stat)
-    // hack for offhand attributes: remove mainhand temporarily, and apply offhand
-    float damage = getAttributeAttackDamage(tool, attackerLiving, sourceSlot);
+    // players base damage (includes tools damage stat), calculated in the snapshot
+    float damage = snapshot.getBaseDamage();
 
     // missing: enchantment modifiers, we handle ourselves
 
@@ -196,14 +214,17 @@ public class ToolAttackUtil {
                          && !attackerLiving.isPassenger() && targetLiving != null && !attackerLiving.isSprinting();
 
     // shared context for all modifier hooks
-    ToolAttackContext context = new ToolAttackContext(attackerLiving, attackerPlayer, hand, sourceSlot, targetEntity, targetLiving, isCritical, cooldown, isExtraAttack);
+    ToolAttackContext context = new ToolAttackContext(attackerLiving, attackerPlayer, snapshot.getHand(), sourceSlot, targetEntity, targetLiving, isCritical, cooldown, isExtraAttack);
 
     // calculate actual damage
     // boost damage from traits
     float baseDamage = damage;
-    List<ModifierEntry> modifiers = tool.getModifierList();
-    for (ModifierEntry entry : modifiers) {
-      damage = entry.getHook(ModifierHooks.MELEE_DAMAGE).getMeleeDamage(tool, entry, context, baseDamage, damage);
+    List<ModifierEntry> modifiers = snapshot.getModifiers();
+    MeleeDamageModifierHook[] damageHooks = snapshot.getDamageHooks();
+    MeleeHitModifierHook[] hitHooks = snapshot.getHitHooks();
+    int modifierCount = modifiers.size();
+    for (int i = 0; i < modifierCount; i++) {
+      damage = damageHooks[i].getMeleeDamage(tool, modifiers.get(i), context, baseDamage, damage);
     }
 
     // no damage? do nothing
@@ -211,9 +232,8 @@ public class ToolAttackUtil {
       return !isExtraAttack;
     }
 
-    // forge patches in the knockback attribute for use on players
-    // vanilla halves the knockback attribute later, we half it in all our hooks, so halving the attribute makes it equivelent
-    float knockback = (float)attackerLiving.getAttributeValue(Attributes.ATTACK_KNOCKBACK) / 2f;
+    // forge patches in the knockback attribute for use on players, halved in the snapshot
+    float knockback = snapshot.getKnockback();
     // vanilla applies 0.4 knockback to living via the attack hook
     if (targetLiving != null) {
       knockback += 0.4f;
@@ -267,8 +287,8 @@ public class ToolAttackUtil {
 
     // apply modifier knockback and special effects
     float baseKnockback = knockback;
-    for (ModifierEntry entry : modifiers) {
-      knockback = entry.getHook(ModifierHooks.MELEE_HIT).beforeMeleeHit(tool, entry, context, damage, baseKnockback, knockback);
+    for (int i = 0; i < modifierCount; i++) {
+      knockback = hitHooks[i].beforeMeleeHit(tool, modifiers.get(i), context, damage, baseKnockback, knockback);
     }
 
     // set hand for proper looting context
@@ -312,8 +332,8 @@ public class ToolAttackUtil {
         attackerLiving.level.playSound(null, attackerLiving.getX(), attackerLiving.getY(), attackerLiving.getZ(), SoundEvents.PLAYER_ATTACK_NODAMAGE, attackerLiving.getSoundSource(), 1.0F, 1.0F);
       }
       // alert modifiers nothing was hit, mainly used for fiery
-      for (ModifierEntry entry : modifiers) {
-        entry.getHook(ModifierHooks.MELEE_HIT).failedMeleeHit(tool, entry, context, damage);
+      for (int i = 0; i < modifierCount; i++) {
+        hitHooks[i].failedMeleeHit(tool, modifiers.get(i), context, damage);
       }
 
       return !isExtraAttack;
@@ -371,13 +391,12 @@ public class ToolAttackUtil {
 
     // apply modifier effects
     // removed: bane of arthropods hook, replaced by this
-    for (ModifierEntry entry : modifiers) {
-      entry.getHook(ModifierHooks.MELEE_HIT).afterMeleeHit(tool, entry, context, damageDealt);
+    for (int i = 0; i < modifierCount; i++) {
+      hitHooks[i].afterMeleeHit(tool, modifiers.get(i), context, damageDealt);
     }
 
     // hurt resistance adjustment for high speed weapons
-    float speed = tool.getStats().get(ToolStats.ATTACK_SPEED);
-    int time = Math.round(20f / speed);
+    int time = snapshot.getInvulnerableTime();
     if (time < targetEntity.invulnerableTime) {
       targetEntity.invulnerableTime = (targetEntity.invulnerableTime + time) / 2;
     }
@@ -425,6 +444,23 @@ public class ToolAttackUtil {
     return attackEntity(tool, attackerLiving, hand, targetEntity, NO_COOLDOWN, true);
   }
 
+  /**
+   * Applies a secondary attack to an entity using a snapshot shared between all targets of the swing
+   * @param snapshot      Attacker values from {@link ToolAttackSnapshot#create(IToolStackView, LivingEntity, InteractionHand)}
+   * @param targetEntity  Target
+   * @return  True if hit
+   */
+  public static boolean extraEntityAttack(ToolAttackSnapshot snapshot, Entity targetEntity) {
+    // tool may break partway through the swing
+    if (snapshot.getTool().isBroken()) {
+      return false;
+    }
+    if (!targetEntity.isAttackable() || targetEntity.skipAttackInteraction(snapshot.getAttacker())) {
+      return true;
+    }
+    return attackEntity(snapshot, targetEntity, NO_COOLDOWN, true);
+  }
+
   /**
    * Spawns a given particle at the given entity's position with an offset
    *
@@ -0,0 +1,181 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.MapMaker;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.common.MinecraftForge;
+import slimeknights.mantle.client.TooltipKey;
+import slimeknights.mantle.data.listener.ISafeManagerReloadListener;
+import slimeknights.tconstruct.common.config.Config;
+import slimeknights.tconstruct.library.events.MaterialsLoadedEvent;
+import slimeknights.tconstruct.library.modifiers.ModifierManager.ModifiersLoadedEvent;
+import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Client side LRU cache for tool display names and the static portions of the tool tooltip.
+ * Names are keyed on the item and material list, using the live list for hashing while stored keys hold a copy.
+ * Tooltips are keyed on tag identity, so a lookup only scans the few tooltips cached for the hovered stack. Synced stacks always get a new tag,
+ * and a hash of the tag contents is checked on each hit to catch client side changes made in place, such as durability or persistent data.
+ */
+public class TooltipCache {
+  /** Max number of display names to keep */
+  private static final int MAX_NAMES = 512;
+
+  /** Cache of item and materials to display name */
+  private static final Map<NameKey,Component> NAME_CACHE = new LruMap<>(MAX_NAMES);
+  /** Cache of tag to tooltips, compared by identity and weak so tags of discarded stacks are released */
+  private static final Map<CompoundTag,List<CachedTooltip>> TOOLTIP_CACHE = new MapMaker().weakKeys().makeMap();
+
+  /** Incremented on clear, so names and tooltips computed before the clear are discarded */
+  private static volatile int version = 0;
+  /** If true, the cache is in use. Only enabled on the client as the server has no reason to display names repeatedly */
+  private static boolean enabled = false;
+
+  /** Clears the cache on language or resource pack change */
+  public static final ISafeManagerReloadListener RELOAD_LISTENER = manager -> clear();
+
+  private TooltipCache() {}
+
+  /** Called during client setup to enable the cache and register invalidation listeners */
+  public static void init() {
+    enabled = true;
+    MinecraftForge.EVENT_BUS.addListener((MaterialsLoadedEvent event) -> clear());
+    MinecraftForge.EVENT_BUS.addListener((ModifiersLoadedEvent event) -> clear());
+  }
+
+  /** Enables or disables the cache without registering listeners */
+  @VisibleForTesting
+  static void setEnabled(boolean enabled) {
+    TooltipCache.enabled = enabled;
+  }
+
+  /** Clears all cached names and tooltips */
+  public static void clear() {
+    // version is bumped under the lock, so a name computed before the clear is never added after it
+    synchronized (NAME_CACHE) {
+      version++;
+      NAME_CACHE.clear();
+    }
+    TOOLTIP_CACHE.clear();
+  }
+
+  /**
+   * Gets the display name for the given stack, computing it if missing
+   * @param stack   Stack to name, the name must only depend on its item and material list
+   * @param getter  Logic to compute the name
+   * @return  Cached name
+   */
+  public static Component getDisplayName(ItemStack stack, Supplier<Component> getter) {
+    if (!enabled) {
+      return getter.get();
+    }
+    ListTag materials = null;
+    CompoundTag tag = stack.getTag();
+    if (tag != null && tag.contains(ToolStack.TAG_MATERIALS, Tag.TAG_LIST)) {
+      materials = tag.getList(ToolStack.TAG_MATERIALS, Tag.TAG_STRING);
+    }
+    Item item = stack.getItem();
+    int currentVersion;
+    synchronized (NAME_CACHE) {
+      Component name = NAME_CACHE.get(new NameKey(item, materials));
+      if (name != null) {
+        return name;
+      }
+      currentVersion = version;
+    }
+    Component name = getter.get();
+    synchronized (NAME_CACHE) {
+      if (version == currentVersion) {
+        NAME_CACHE.put(new NameKey(item, materials == null ? null : materials.copy()), name);
+      }
+    }
+    return name;
+  }
+
+  /**
+   * Adds the tooltip for the given stack, computing it if missing.
+   * @param stack     Stack to display, the tooltip must only depend on its item and tag
+   * @param tooltip   Tooltip list to fill
+   * @param key       Tooltip key pressed
+   * @param advanced  If true, showing advanced tooltips
+   * @param adder     Logic to fill in the tooltip when not cached
+   */
+  public static void addInformation(ItemStack stack, List<Component> tooltip, TooltipKey key, boolean advanced, Runnable adder) {
+    if (!enabled) {
+      adder.run();
+      return;
+    }
+    addInformation(stack, tooltip, key, advanced, Config.CLIENT.modifiersIDsInAdvancedTooltips.get(), adder);
+  }
+
+  /** Logic for {@link #addInformation(ItemStack, List, TooltipKey, boolean, Runnable)} with the config option resolved */
+  @VisibleForTesting
+  static void addInformation(ItemStack stack, List<Component> tooltip, TooltipKey key, boolean advanced, boolean showIds, Runnable adder) {
+    CompoundTag tag = stack.getTag();
+    if (tag == null) {
+      adder.run();
+      return;
+    }
+    Item item = stack.getItem();
+    int damage = stack.getDamageValue();
+    int tagHash = tag.hashCode();
+    int currentVersion = version;
+    List<CachedTooltip> cached = TOOLTIP_CACHE.getOrDefault(tag, List.of());
+    for (CachedTooltip entry : cached) {
+      if (entry.matches(item, damage, tagHash, key, advanced, showIds, currentVersion)) {
+        tooltip.addAll(entry.lines);
+        return;
+      }
+    }
+    int start = tooltip.size();
+    adder.run();
+    // the adder may fill in missing data, so hash the tag as it will be on the next lookup
+    CachedTooltip added = new CachedTooltip(item, damage, tag.hashCode(), key, advanced, showIds, currentVersion, List.copyOf(tooltip.subList(start, tooltip.size())));
+    // replace the list whole, dropping any entry for the same key that is now stale
+    List<CachedTooltip> updated = new ArrayList<>(cached.size() + 1);
+    for (CachedTooltip entry : cached) {
+      if (entry.key != key || entry.advanced != advanced) {
+        updated.add(entry);
+      }
+    }
+    updated.add(added);
+    TOOLTIP_CACHE.put(tag, List.copyOf(updated));
+  }
+
+  /** Key for the name cache */
+  private record NameKey(Item item, @Nullable ListTag materials) {}
+
+  /** Tooltip lines along with everything besides the tag they depend on */
+  private record CachedTooltip(Item item, int damage, int tagHash, TooltipKey key, boolean advanced, boolean showIds, int version, List<Component> lines) {
+    /** Checks if this tooltip is valid for the given parameters */
+    boolean matches(Item item, int damage, int tagHash, TooltipKey key, boolean advanced, boolean showIds, int version) {
+      return this.item == item && this.damage == damage && this.tagHash == tagHash && this.key == key && this.advanced == advanced && this.showIds == showIds && this.version == version;
+    }
+  }
+
+  /** Map that evicts the least recently accessed entry once full */
+  private static class LruMap<K,V> extends LinkedHashMap<K,V> {
+    private final int maxSize;
+    private LruMap(int maxSize) {
+      super(maxSize, 0.75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K,V> eldest) {
+      return size() > maxSize;
+    }
+  }
+}
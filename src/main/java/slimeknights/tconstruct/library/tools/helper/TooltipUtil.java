@@ -211,6 +211,11 @@ public class TooltipUtil {
     if (!name.isEmpty()) {
       return Component.literal(name);
     }
+    return TooltipCache.getDisplayName(stack, () -> getMaterialDisplayName(stack, tool, toolDefinition));
+  }
+
+  /** Computes the display name for a tool from its materials, skipping the cache */
+  private static Component getMaterialDisplayName(ItemStack stack, @Nullable IToolStackView tool, ToolDefinition toolDefinition) {
     List<MaterialStatsId> components = ToolMaterialHook.stats(toolDefinition);
     Component baseName = Component.translatable(stack.getDescriptionId());
     if (components.isEmpty()) {
@@ -261,8 +266,7 @@ public class TooltipUtil {
     // if the display tag is set, just show modifiers
     ToolDefinition definition = item.getToolDefinition();
     if (isDisplay(stack)) {
-      ToolStack tool = ToolStack.from(stack);
-      addModifierNames(stack, tool, tooltip, tooltipFlag);
+      TooltipCache.addInformation(stack, tooltip, TooltipKey.NORMAL, tooltipFlag.isAdvanced(), () -> addModifierNames(stack, ToolStack.from(stack), tooltip, tooltipFlag));
       // No definition?
     } else if (!definition.isDataLoaded()) {
       tooltip.add(NO_DATA);
@@ -281,15 +285,15 @@ public class TooltipUtil {
         case SHIFT:
           item.getStatInformation(ToolStack.from(stack), player, tooltip, tooltipKey, tooltipFlag);
           break;
+        // stats depend on the player, so only the stack driven tooltips are cached
         case CONTROL:
           if (definition.hasMaterials()) {
-            getComponents(item, stack, tooltip, tooltipFlag);
+            TooltipCache.addInformation(stack, tooltip, tooltipKey, tooltipFlag.isAdvanced(), () -> getComponents(item, stack, tooltip, tooltipFlag));
             break;
           }
           // intentional fallthrough
         default:
-          ToolStack tool = ToolStack.from(stack);
-          getDefaultInfo(stack, tool, tooltip, tooltipFlag);
+          TooltipCache.addInformation(stack, tooltip, TooltipKey.NORMAL, tooltipFlag.isAdvanced(), () -> getDefaultInfo(stack, ToolStack.from(stack), tooltip, tooltipFlag));
           break;
       }
     }
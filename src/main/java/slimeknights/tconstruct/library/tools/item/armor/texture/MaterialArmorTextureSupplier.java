@@ -25,7 +25,9 @@ import slimeknights.tconstruct.library.utils.SimpleCache;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -37,12 +39,16 @@ public abstract class MaterialArmorTextureSupplier implements ArmorTextureSuppli
   /** Field for parsing the variant from JSON */
   private static final LoadableField<ResourceLocation,MaterialArmorTextureSupplier> NAME_FIELD = Loadables.RESOURCE_LOCATION.requiredField("name", m -> m.name);
 
+  /** Incremented each time textures are cleared, used to invalidate caches of resolved texture sets */
+  private static int reloadVersion = 0;
+
   /** Listener to clear render type cache */
   @Internal
   public static final ISafeManagerReloadListener RELOAD_LISTENER = manager -> {
     for (SimpleCache<String,ArmorTexture> cache : CACHES) {
       cache.clear();
     }
+    reloadVersion++;
   };
 
   /** Makes a material getter for the given base and type */
@@ -148,6 +154,10 @@ public abstract class MaterialArmorTextureSupplier implements ArmorTextureSuppli
     private Function<String,ArmorTexture>[] armor = new Function[0];
     private Function<String,ArmorTexture>[] leggings = new Function[0];
     private Function<String,ArmorTexture>[] wings = new Function[0];
+    /** Resolved textures for each material list, indexed by texture type then material index */
+    private final Map<List<String>,ArmorTexture[][]> sets = new HashMap<>();
+    /** Reload version for the resolved sets */
+    private int setsVersion = -1;
 
     /** Ensures the given size is supported */
     public void checkSize(int size) {
@@ -172,6 +182,36 @@ public abstract class MaterialArmorTextureSupplier implements ArmorTextureSuppli
         case WINGS -> wings;
       })[index].apply(material);
     }
+
+    /** Gets the reload version, textures from {@link #getTextures(List)} are valid until this changes */
+    public int getVersion() {
+      return reloadVersion;
+    }
+
+    /**
+     * Gets all textures for the given list of materials
+     * @param materials  Material for each index, size must be supported by {@link #checkSize(int)}
+     * @return  Textures indexed by texture type ordinal then material index
+     */
+    public ArmorTexture[][] getTextures(List<String> materials) {
+      if (setsVersion != reloadVersion) {
+        sets.clear();
+        setsVersion = reloadVersion;
+      }
+      ArmorTexture[][] textures = sets.get(materials);
+      if (textures == null) {
+        TextureType[] types = TextureType.values();
+        int size = materials.size();
+        textures = new ArmorTexture[types.length][size];
+        for (TextureType type : types) {
+          for (int i = 0; i < size; i++) {
+            textures[type.ordinal()][i] = getTexture(materials.get(i), i, type);
+          }
+        }
+        sets.put(List.copyOf(materials), textures);
+      }
+      return textures;
+    }
   }
 
   private static class ClientOnly {
@@ -23,7 +23,6 @@ import slimeknights.tconstruct.library.modifiers.hook.build.ConditionalStatModif
 import slimeknights.tconstruct.library.modifiers.hook.interaction.GeneralInteractionModifierHook;
 import slimeknights.tconstruct.library.modifiers.hook.ranged.BowAmmoModifierHook;
 import slimeknights.tconstruct.library.tools.capability.EntityModifierCapability;
-import slimeknights.tconstruct.library.tools.capability.PersistentDataCapability;
 import slimeknights.tconstruct.library.tools.definition.ToolDefinition;
 import slimeknights.tconstruct.library.tools.helper.ModifierUtil;
 import slimeknights.tconstruct.library.tools.helper.ToolDamageUtil;
@@ -165,10 +164,10 @@ public class ModifiableBowItem extends ModifiableLauncherItem {
 
         // just store all modifiers on the tool for simplicity
         ModifierNBT modifiers = tool.getModifiers();
-        arrow.getCapability(EntityModifierCapability.CAPABILITY).ifPresent(cap -> cap.setModifiers(modifiers));
+        EntityModifierCapability.setModifiers(arrow, modifiers);
 
         // fetch the persistent data for the arrow as modifiers may want to store data
-        NamespacedNBT arrowData = PersistentDataCapability.getOrWarn(arrow);
+        NamespacedNBT arrowData = EntityModifierCapability.getPersistentData(arrow);
 
         // if infinite, skip pickup
         if (creative) {
@@ -37,7 +37,6 @@ import slimeknights.tconstruct.library.modifiers.hook.build.ConditionalStatModif
 import slimeknights.tconstruct.library.modifiers.hook.interaction.GeneralInteractionModifierHook;
 import slimeknights.tconstruct.library.modifiers.hook.ranged.BowAmmoModifierHook;
 import slimeknights.tconstruct.library.tools.capability.EntityModifierCapability;
-import slimeknights.tconstruct.library.tools.capability.PersistentDataCapability;
 import slimeknights.tconstruct.library.tools.definition.ToolDefinition;
 import slimeknights.tconstruct.library.tools.helper.ModifierUtil;
 import slimeknights.tconstruct.library.tools.helper.ToolDamageUtil;
@@ -225,10 +224,10 @@ public class ModifiableCrossbowItem extends ModifiableLauncherItem {
 
         // add modifiers to the projectile, will let us use them on impact
         ModifierNBT modifiers = tool.getModifiers();
-        projectile.getCapability(EntityModifierCapability.CAPABILITY).ifPresent(cap -> cap.setModifiers(modifiers));
+        EntityModifierCapability.setModifiers(projectile, modifiers);
 
         // fetch the persistent data for the arrow as modifiers may want to store data
-        NamespacedNBT projectileData = PersistentDataCapability.getOrWarn(projectile);
+        NamespacedNBT projectileData = EntityModifierCapability.getPersistentData(projectile);
 
         // let modifiers set properties
         for (ModifierEntry entry : modifiers.getModifiers()) {
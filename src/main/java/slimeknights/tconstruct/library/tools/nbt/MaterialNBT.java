@@ -2,9 +2,6 @@ package slimeknights.tconstruct.library.tools.nbt;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.ToString;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
@@ -16,27 +13,51 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * All the materials contained within the tool. Determines a portion of the modifiers, along with the stats.
+ * When read from NBT, the list is parsed lazily from the original tag. Invalid IDs become {@link MaterialVariant#UNKNOWN}, keeping each material at the index of its part.
  */
-@EqualsAndHashCode
-@ToString
 public class MaterialNBT {
   /** Instance containing no materials, for errors with parsing NBT */
   public final static MaterialNBT EMPTY = new MaterialNBT(ImmutableList.of());
 
-  /** List of materials contained in this NBT */
-  @Getter
-  private final List<MaterialVariant> list;
+  /** Tag this was read from, null if created from a list. Must not be modified after reading */
+  @Nullable
+  private final ListTag tag;
+  /** List of materials contained in this NBT, null if not yet parsed from the tag */
+  @Nullable
+  private List<MaterialVariant> list;
 
   /** Creates a new material NBT */
   public MaterialNBT(List<MaterialVariant> list) {
+    this.tag = null;
     this.list = ImmutableList.copyOf(list);
   }
 
+  /** Creates a lazy view of the given tag, assumes the tag is a list of strings */
+  private MaterialNBT(ListTag tag) {
+    this.tag = tag;
+    this.list = null;
+  }
+
+  /** Gets the list of materials contained in this NBT */
+  public List<MaterialVariant> getList() {
+    List<MaterialVariant> list = this.list;
+    if (list == null) {
+      assert tag != null;
+      ImmutableList.Builder<MaterialVariant> builder = ImmutableList.builder();
+      for (int i = 0; i < tag.size(); i++) {
+        MaterialVariantId id = MaterialVariantId.tryParse(tag.getString(i));
+        builder.add(id == null ? MaterialVariant.UNKNOWN : MaterialVariant.of(id));
+      }
+      list = builder.build();
+      this.list = list;
+    }
+    return list;
+  }
+
   /** Creates a new material NBT */
   @VisibleForTesting
   public static MaterialNBT of(IMaterial... materials) {
@@ -54,6 +75,7 @@ public class MaterialNBT {
    * @return  Material, or unknown if index is invalid
    */
   public MaterialVariant get(int index) {
+    List<MaterialVariant> list = getList();
     if (index >= list.size() || index < 0) {
       return MaterialVariant.UNKNOWN;
     }
@@ -62,7 +84,11 @@ public class MaterialNBT {
 
   /** Gets the number of materials in this list */
   public int size() {
-    return list.size();
+    // every tag entry becomes a material, so no need to parse
+    if (list == null && tag != null) {
+      return tag.size();
+    }
+    return getList().size();
   }
 
   /**
@@ -77,13 +103,14 @@ public class MaterialNBT {
       throw new IndexOutOfBoundsException("Material index is out of bounds");
     }
     // start by copying all materials over
-    int size = list.size();
+    List<MaterialVariant> original = getList();
+    int size = original.size();
     ArrayList<MaterialVariant> list = new ArrayList<>(Math.max(size, index + 1));
     for (int i = 0; i < size; i++) {
       if (i == index) {
         list.add(MaterialVariant.of(replacement));
       } else {
-        list.add(this.list.get(i));
+        list.add(original.get(i));
       }
     }
 
@@ -109,17 +136,10 @@ public class MaterialNBT {
       return EMPTY;
     }
     ListTag listNBT = (ListTag) nbt;
-    if (listNBT.getElementType() != Tag.TAG_STRING) {
+    if (listNBT.isEmpty() || listNBT.getElementType() != Tag.TAG_STRING) {
       return EMPTY;
     }
-
-    List<MaterialVariant> materials = listNBT.stream()
-                                             .map(tag -> MaterialVariantId.tryParse(tag.getAsString()))
-                                             .filter(Objects::nonNull)
-                                             .map(MaterialVariant::of)
-                                             .collect(Collectors.toList());
-
-    return new MaterialNBT(materials);
+    return new MaterialNBT(listNBT);
   }
 
   /**
@@ -127,11 +147,29 @@ public class MaterialNBT {
    * @return  List of materials
    */
   public ListTag serializeToNBT() {
-    return list.stream()
+    return getList().stream()
                .map(lazy -> StringTag.valueOf(lazy.getVariant().toString()))
                .collect(Collectors.toCollection(ListTag::new));
   }
 
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    return other instanceof MaterialNBT nbt && getList().equals(nbt.getList());
+  }
+
+  @Override
+  public int hashCode() {
+    return getList().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "MaterialNBT(list=" + getList() + ")";
+  }
+
   /** Builder for material NBT */
   public static class Builder {
     private final ImmutableList.Builder<MaterialVariant> builder = ImmutableList.builder();
@@ -1,9 +1,7 @@
 package slimeknights.tconstruct.library.tools.nbt;
 
 import com.google.common.collect.ImmutableList;
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import slimeknights.tconstruct.library.modifiers.IncrementalModifierEntry;
@@ -21,25 +19,88 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
- * NBT object containing all current modifiers
+ * NBT object containing all current modifiers.
+ * When read from NBT, the list is parsed lazily from the original tag, allowing single modifier lookups without building the full list.
  */
-@EqualsAndHashCode
-@RequiredArgsConstructor
 public class ModifierNBT {
 
   /** Instance containing no modifiers */
   public static final ModifierNBT EMPTY = new ModifierNBT(Collections.emptyList());
 
-  /** Sorted list of modifiers */
-  @Getter
-  private final List<ModifierEntry> modifiers;
+  /** Tag this was read from, null if created from a list. Must not be modified after reading */
+  @Nullable
+  private final ListTag tag;
+  /** Sorted list of modifiers, null if not yet parsed from the tag */
+  @Nullable
+  private List<ModifierEntry> modifiers;
+  /** Modifier ID for each entry in the tag, null for invalid entries. Parsed on the first single modifier lookup */
+  @Nullable
+  private ModifierId[] ids;
+
+  public ModifierNBT(List<ModifierEntry> modifiers) {
+    this.tag = null;
+    this.modifiers = modifiers;
+  }
+
+  /** Creates a lazy view of the given tag, assumes the tag is a list of compounds */
+  private ModifierNBT(ListTag tag) {
+    this.tag = tag;
+    this.modifiers = null;
+  }
+
+  /** Gets the sorted list of modifiers */
+  public List<ModifierEntry> getModifiers() {
+    List<ModifierEntry> modifiers = this.modifiers;
+    if (modifiers == null) {
+      assert tag != null;
+      ImmutableList.Builder<ModifierEntry> builder = ImmutableList.builder();
+      for (int i = 0; i < tag.size(); i++) {
+        ModifierEntry entry = ModifierEntry.readFromNBT(tag.getCompound(i));
+        if (entry != ModifierEntry.EMPTY) {
+          builder.add(entry);
+        }
+      }
+      modifiers = builder.build();
+      this.modifiers = modifiers;
+    }
+    return modifiers;
+  }
 
   /**
    * Checks if the NBT has no modifiers
    * @return  True if there are no modifiers
    */
   public boolean isEmpty() {
-    return modifiers.isEmpty();
+    if (modifiers == null && tag != null && tag.isEmpty()) {
+      return true;
+    }
+    return getModifiers().isEmpty();
+  }
+
+  /**
+   * Finds the index of the given modifier in the unparsed tag
+   * @param modifier  Modifier to find
+   * @return  Index of the first valid entry, or -1 if missing
+   */
+  private int indexInTag(ListTag tag, ModifierId modifier) {
+    ModifierId[] ids = this.ids;
+    if (ids == null) {
+      // parse the IDs once, later lookups are just comparisons
+      ids = new ModifierId[tag.size()];
+      for (int i = 0; i < ids.length; i++) {
+        CompoundTag entry = tag.getCompound(i);
+        if (entry.contains(ModifierEntry.TAG_MODIFIER, Tag.TAG_STRING) && entry.getInt(ModifierEntry.TAG_LEVEL) > 0) {
+          ids[i] = ModifierId.tryParse(entry.getString(ModifierEntry.TAG_MODIFIER));
+        }
+      }
+      this.ids = ids;
+    }
+    for (int i = 0; i < ids.length; i++) {
+      if (modifier.equals(ids[i])) {
+        return i;
+      }
+    }
+    return -1;
   }
 
   /**
@@ -48,7 +109,12 @@ public class ModifierNBT {
    * @return  Modifier entry, or {@link ModifierEntry#EMPTY} if absent
    */
   public ModifierEntry getEntry(ModifierId modifier) {
-    for (ModifierEntry entry : modifiers) {
+    // if not yet parsed, read just the one entry
+    if (modifiers == null && tag != null) {
+      int index = indexInTag(tag, modifier);
+      return index == -1 ? ModifierEntry.EMPTY : ModifierEntry.readFromNBT(tag.getCompound(index));
+    }
+    for (ModifierEntry entry : getModifiers()) {
       if (entry.matches(modifier)) {
         return entry;
       }
@@ -62,6 +128,11 @@ public class ModifierNBT {
    * @return  Modifier level, or 0 if modifier is missing
    */
   public int getLevel(ModifierId modifier) {
+    // if not yet parsed, read the level directly
+    if (modifiers == null && tag != null) {
+      int index = indexInTag(tag, modifier);
+      return index == -1 ? 0 : tag.getCompound(index).getInt(ModifierEntry.TAG_LEVEL);
+    }
     return getEntry(modifier).getLevel();
   }
 
@@ -84,7 +155,7 @@ public class ModifierNBT {
     // easier for adding a single entry, and the cases that call this method don't care about sorting
     ImmutableList.Builder<ModifierEntry> builder = ImmutableList.builder();
     boolean found = false;
-    for (ModifierEntry entry : this.modifiers) {
+    for (ModifierEntry entry : getModifiers()) {
       // first match increases the level
       // shouldn't be a second match (all the methods are protected), but just in case we prevent modifier duplication
       if (!found && entry.matches(modifier)) {
@@ -119,7 +190,7 @@ public class ModifierNBT {
     // easier for adding a single entry, and the cases that call this method don't care about sorting
     ImmutableList.Builder<ModifierEntry> builder = ImmutableList.builder();
     boolean found = false;
-    for (ModifierEntry entry : this.modifiers) {
+    for (ModifierEntry entry : getModifiers()) {
       // first match increases the level
       // shouldn't be a second match (all the methods are protected), but just in case we prevent modifier duplication
       if (!found && entry.matches(modifier)) {
@@ -150,7 +221,7 @@ public class ModifierNBT {
     // rather than using the builder, just use a raw list builder
     // easier for adding a single entry, and the cases that call this method don't care about sorting
     ImmutableList.Builder<ModifierEntry> builder = ImmutableList.builder();
-    for (ModifierEntry entry : this.modifiers) {
+    for (ModifierEntry entry : getModifiers()) {
       if (entry.matches(modifier) && level > 0) {
         if (entry.getLevel() > level) {
           builder.add(entry.withLevel(entry.getLevel() - level));
@@ -175,29 +246,42 @@ public class ModifierNBT {
     }
 
     ListTag listNBT = (ListTag)inbt;
-    if (listNBT.getElementType() != Tag.TAG_COMPOUND) {
+    if (listNBT.isEmpty()) {
       return EMPTY;
     }
-
-    ImmutableList.Builder<ModifierEntry> builder = ImmutableList.builder();
-    for (int i = 0; i < listNBT.size(); i++) {
-      ModifierEntry entry = ModifierEntry.readFromNBT(listNBT.getCompound(i));
-      if (entry != ModifierEntry.EMPTY) {
-        builder.add(entry);
-      }
+    if (listNBT.getElementType() != Tag.TAG_COMPOUND) {
+      return EMPTY;
     }
-    return new ModifierNBT(builder.build());
+    return new ModifierNBT(listNBT);
   }
 
   /** Writes these modifiers to NBT */
   public ListTag serializeToNBT() {
     ListTag list = new ListTag();
-    for (ModifierEntry entry : modifiers) {
+    for (ModifierEntry entry : getModifiers()) {
       list.add(entry.serializeToNBT());
     }
     return list;
   }
 
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    return other instanceof ModifierNBT nbt && getModifiers().equals(nbt.getModifiers());
+  }
+
+  @Override
+  public int hashCode() {
+    return getModifiers().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "ModifierNBT(modifiers=" + getModifiers() + ")";
+  }
+
 
   /* Builder */
 
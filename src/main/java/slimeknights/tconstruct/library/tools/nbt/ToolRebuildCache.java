@@ -0,0 +1,122 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.Item;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.materials.MaterialRegistry;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes {@link ToolStack#rebuildStats()} while previewing crafting results in the tinker station and modifier worktable.
+ * Previews run on every slot change, and most slot changes produce the same tool as the last preview, so the rebuilt NBT is cached by the NBT going into the rebuild.
+ * As a rebuild only depends on the tool NBT and loaded data, the result is identical to running the rebuild.
+ */
+public class ToolRebuildCache {
+  /** Max number of rebuilds cached per thread */
+  private static final int MAX_SIZE = 32;
+  /** Cache for the current thread, client and server thread previews may run at the same time in singleplayer */
+  private static final ThreadLocal<ToolRebuildCache> CACHE = ThreadLocal.withInitial(ToolRebuildCache::new);
+  /** Incremented when datapacks or tags reload, as tool definitions, modifiers, or tag based modifier conditions may have changed */
+  private static volatile int reloadVersion = 0;
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> reloadVersion++);
+    MinecraftForge.EVENT_BUS.addListener((TagsUpdatedEvent event) -> reloadVersion++);
+  }
+
+  /** Cached rebuilds, least recently used removed first */
+  private final Map<Key,CompoundTag> rebuilds = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key,CompoundTag> eldest) {
+      return size() > MAX_SIZE;
+    }
+  };
+  /** Number of nested previews running, cache is only used when positive */
+  private int depth = 0;
+  /** Reload version the cache contents were built against */
+  private int version = -1;
+
+  private ToolRebuildCache() {}
+
+  /**
+   * Runs the given preview, memoizing any tool stat rebuilds within
+   * @param preview  Preview logic, should not modify tools outside the preview
+   * @param <T>  Result type
+   * @return  Preview result
+   */
+  public static <T> T preview(Supplier<T> preview) {
+    ToolRebuildCache cache = CACHE.get();
+    cache.depth++;
+    try {
+      return preview.get();
+    } finally {
+      cache.depth--;
+    }
+  }
+
+  /** Gets the active cache for this thread, or null if not previewing */
+  @Nullable
+  static ToolRebuildCache getActive() {
+    ToolRebuildCache cache = CACHE.get();
+    if (cache.depth <= 0) {
+      return null;
+    }
+    // materials and datapacks both change rebuild results
+    int version = reloadVersion * 31 + MaterialRegistry.getLoadVersion();
+    if (cache.version != version) {
+      cache.rebuilds.clear();
+      cache.version = version;
+    }
+    return cache;
+  }
+
+  /** Key for a cached rebuild */
+  record Key(Item item, CompoundTag input) {}
+
+  /**
+   * Creates a key for the given tool before rebuilding
+   * @param item  Tool item
+   * @param nbt   Tool NBT, will be copied
+   * @return  Key
+   */
+  Key key(Item item, CompoundTag nbt) {
+    return new Key(item, nbt.copy());
+  }
+
+  /**
+   * Applies a cached rebuild to the given NBT
+   * @param key  Key from {@link #key(Item, CompoundTag)}
+   * @param nbt  NBT to update
+   * @return  True if the NBT was updated, false if there was no cached rebuild
+   */
+  boolean apply(Key key, CompoundTag nbt) {
+    CompoundTag output = rebuilds.get(key);
+    if (output == null) {
+      return false;
+    }
+    // leave unchanged tags alone, so views into them such as persistent data stay valid
+    nbt.getAllKeys().removeIf(name -> !output.contains(name));
+    for (String name : output.getAllKeys()) {
+      Tag value = output.get(name);
+      if (value != null && !value.equals(nbt.get(name))) {
+        nbt.put(name, value.copy());
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Stores the result of a rebuild
+   * @param key  Key from before the rebuild
+   * @param nbt  NBT after the rebuild, will be copied
+   */
+  void store(Key key, CompoundTag nbt) {
+    rebuilds.put(key, nbt.copy());
+  }
+}
@@ -616,6 +616,30 @@ public class ToolStack implements IToolStackView {
    * Recalculates any relevant cached data. Called after either the materials or modifiers list changes
    */
   public void rebuildStats() {
+    // when previewing crafting results, reuse the last rebuild of the same tool
+    ToolRebuildCache cache = ToolRebuildCache.getActive();
+    if (cache == null) {
+      rebuildStatsUncached();
+      return;
+    }
+    ToolRebuildCache.Key key = cache.key(item, nbt);
+    if (cache.apply(key, nbt)) {
+      // inputs are unchanged by a rebuild, so only calculated data needs to be parsed again
+      this.modifiers = null;
+      this.stats = null;
+      this.multipliers = null;
+      this.volatileModData = null;
+      // lowered durability may have reduced the damage and broken the tool
+      this.damage = -1;
+      this.broken = null;
+    } else {
+      rebuildStatsUncached();
+      cache.store(key, nbt);
+    }
+  }
+
+  /** Logic for {@link #rebuildStats()} */
+  private void rebuildStatsUncached() {
     // add tool slots to volatile data, ensures it is there even from an empty tool, and properly updates on datapack update
     ToolDefinitionData toolData = getDefinitionData();
 
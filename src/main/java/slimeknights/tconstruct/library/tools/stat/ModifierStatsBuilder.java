@@ -1,6 +1,5 @@
 package slimeknights.tconstruct.library.tools.stat;
 
-import lombok.NoArgsConstructor;
 import net.minecraft.world.item.Item;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.VisibleForTesting;
@@ -8,7 +7,9 @@ import slimeknights.tconstruct.library.tools.nbt.MultiplierNBT;
 import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.Consumer;
@@ -16,12 +17,28 @@ import java.util.function.Consumer;
 /**
  * Stat builder for modifiers, allows more fine control over just setting the value
  */
-@NoArgsConstructor(staticName = "builder")
 public class ModifierStatsBuilder {
   /** Map of all stats in the builder */
   private final Map<IToolStat<?>,Object> map = new HashMap<>();
   /** Map of multipliers set */
   private final Map<INumericToolStat<?>,Float> multipliers = new HashMap<>();
+  /** List of all updates made to this builder, null if not recording */
+  @Nullable
+  private final List<Consumer<ModifierStatsBuilder>> recorded;
+
+  private ModifierStatsBuilder(@Nullable List<Consumer<ModifierStatsBuilder>> recorded) {
+    this.recorded = recorded;
+  }
+
+  /** Creates a new builder */
+  public static ModifierStatsBuilder builder() {
+    return new ModifierStatsBuilder(null);
+  }
+
+  /** Creates a builder that records all updates, so they can be applied to other builders using {@link #replay(ModifierStatsBuilder)} */
+  public static ModifierStatsBuilder recorder() {
+    return new ModifierStatsBuilder(new ArrayList<>());
+  }
 
   /**
    * Updates the given stat in the builder
@@ -31,11 +48,32 @@ public class ModifierStatsBuilder {
   @SuppressWarnings("unchecked")
   public <B> void updateStat(IToolStat<?> stat, Consumer<B> consumer) {
     consumer.accept((B)map.computeIfAbsent(stat, IToolStat::makeBuilder));
+    if (recorded != null) {
+      recorded.add(builder -> builder.updateStat(stat, consumer));
+    }
   }
 
   /** Multiplies the given multiplier value by the parameter */
   public void multiplier(INumericToolStat<?> stat, double value) {
     multipliers.put(stat, (float)(multipliers.getOrDefault(stat, 1f) * value));
+    if (recorded != null) {
+      recorded.add(builder -> builder.multiplier(stat, value));
+    }
+  }
+
+  /**
+   * Applies all updates made to this builder to the given builder, in the same order.
+   * Update consumers must not depend on anything but the stat builder, which holds for all stat types in Tinkers.
+   * @param target  Builder to update
+   * @throws IllegalStateException  If this builder was not created using {@link #recorder()}
+   */
+  public void replay(ModifierStatsBuilder target) {
+    if (recorded == null) {
+      throw new IllegalStateException("Cannot replay a builder that is not recording");
+    }
+    for (Consumer<ModifierStatsBuilder> update : recorded) {
+      update.accept(target);
+    }
   }
 
 
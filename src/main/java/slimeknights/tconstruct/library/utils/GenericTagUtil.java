@@ -58,6 +58,25 @@ public class GenericTagUtil {
     return builder.build();
   }
 
+  /**
+   * Decodes a map of tags from the packet, reading values using the given ID parser. Allows the parser to reuse interned IDs.
+   * Reads the same format as {@link #decodeTags(FriendlyByteBuf, ResourceKey, Function)}.
+   */
+  public static <T, I extends ResourceLocation> Map<TagKey<T>,List<T>> decodeTags(FriendlyByteBuf buf, ResourceKey<? extends Registry<T>> registry, IdParser<I> idParser, Function<I,T> valueGetter) {
+    ImmutableMap.Builder<TagKey<T>,List<T>> builder = ImmutableMap.builder();
+    int mapSize = buf.readVarInt();
+    for (int i = 0; i < mapSize; i++) {
+      ResourceLocation tagId = buf.readResourceLocation();
+      int tagSize = buf.readVarInt();
+      ImmutableList.Builder<T> tagBuilder = ImmutableList.builderWithExpectedSize(tagSize);
+      for (int j = 0; j < tagSize; j++) {
+        tagBuilder.add(valueGetter.apply(idParser.decode(buf)));
+      }
+      builder.put(TagKey.create(registry, tagId), tagBuilder.build());
+    }
+    return builder.build();
+  }
+
   /** Writes a map of tags to a packet */
   public static <T> void encodeTags(FriendlyByteBuf buf, Function<T,ResourceLocation> keyGetter, Map<TagKey<T>,? extends Collection<T>> tags) {
     buf.writeVarInt(tags.size());
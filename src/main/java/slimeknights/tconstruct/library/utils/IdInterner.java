@@ -0,0 +1,123 @@
+package slimeknights.tconstruct.library.utils;
+
+import net.minecraft.ResourceLocationException;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Intern pool for IDs read from NBT, packets, or JSON. Repeated parses of the same string return the same instance,
+ * skipping the string splitting and validation, and letting equal IDs short circuit on identity in {@link Object#equals(Object)}.
+ * IDs from the loaded managers are registered so parsed IDs share the instance held by the registry.
+ * @param <T>  ID type
+ */
+public class IdInterner<T> {
+  /** Once the pool grows this large it is reset to the registered IDs, prevents unbounded growth from bad NBT or packets */
+  private static final int MAX_SIZE = 8192;
+  /** Marker for strings that failed to parse */
+  private static final Object INVALID = new Object();
+
+  /** Name of the ID for error messages */
+  private final String name;
+  /** Parser for the ID, returns null if invalid */
+  private final Function<String,T> parser;
+  /** Map from each ID to its canonical instance */
+  private final Map<T,T> pool = new ConcurrentHashMap<>();
+  /** Map from strings to parsed IDs, or {@link #INVALID} if the string failed to parse */
+  private final Map<String,Object> parsed = new ConcurrentHashMap<>();
+  /** IDs from the registry, kept when the pool is reset */
+  private final Set<T> registered = ConcurrentHashMap.newKeySet();
+
+  public IdInterner(String name, Function<String,T> parser) {
+    this.name = name;
+    this.parser = parser;
+  }
+
+  /** Resets the pool if it has grown too large */
+  private void checkSize() {
+    if (pool.size() >= MAX_SIZE || parsed.size() >= MAX_SIZE) {
+      clear();
+    }
+  }
+
+  /**
+   * Gets the canonical instance of the given ID
+   * @param id  ID to intern
+   * @return  Previously interned ID if present, otherwise the passed ID
+   */
+  public T intern(T id) {
+    T existing = pool.get(id);
+    if (existing != null) {
+      return existing;
+    }
+    checkSize();
+    existing = pool.putIfAbsent(id, id);
+    return existing == null ? id : existing;
+  }
+
+  /**
+   * Parses the given ID, returning the interned instance
+   * @param string  String to parse
+   * @return  Interned ID, or null if invalid
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public T tryParse(String string) {
+    Object cached = parsed.get(string);
+    if (cached == null) {
+      checkSize();
+      T id = parser.apply(string);
+      cached = id == null ? INVALID : intern(id);
+      parsed.put(string, cached);
+    }
+    return cached == INVALID ? null : (T) cached;
+  }
+
+  /**
+   * Parses the given ID, returning the interned instance
+   * @param string  String to parse
+   * @return  Interned ID
+   * @throws ResourceLocationException if the string is not a valid ID
+   */
+  public T parse(String string) {
+    T id = tryParse(string);
+    if (id == null) {
+      throw new ResourceLocationException("Invalid " + name + " ID: " + string);
+    }
+    return id;
+  }
+
+  /**
+   * Registers an ID as canonical. Registered IDs replace any existing equal instance and are kept when the pool resets.
+   * @param id  ID to register
+   */
+  public void register(T id) {
+    registered.add(id);
+    pool.put(id, id);
+    // strings may point to a replaced instance
+    parsed.clear();
+  }
+
+  /**
+   * Replaces all registered IDs with the given collection, called when the registry reloads.
+   * @param ids  New registered IDs
+   */
+  public void setRegistered(Collection<? extends T> ids) {
+    registered.clear();
+    registered.addAll(ids);
+    clear();
+  }
+
+  /** Clears all non-registered IDs from the pool */
+  public void clear() {
+    pool.clear();
+    parsed.clear();
+    for (T id : registered) {
+      pool.put(id, id);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package slimeknights.tconstruct.library.utils;
+
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.EncoderException;
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Table of values written once at the start of a packet, so values repeated throughout the packet are sent as a varint index.
+ * Used for IDs which are repeated for many materials, saving both the string on the wire and parsing the ID on each read.
+ */
+public class IdTable {
+  private IdTable() {}
+
+  /**
+   * Builds the table while encoding. Add all values first, then write the table, then write values by index.
+   * @param <T>  Value type
+   */
+  public static class Writer<T> {
+    private final Object2IntMap<T> indices = new Object2IntLinkedOpenHashMap<>();
+
+    public Writer() {
+      indices.defaultReturnValue(-1);
+    }
+
+    /** Adds a value to the table */
+    public void add(T value) {
+      indices.putIfAbsent(value, indices.size());
+    }
+
+    /**
+     * Writes the table to the buffer
+     * @param buffer   Buffer instance
+     * @param encoder  Logic to write each value
+     */
+    public void writeTable(FriendlyByteBuf buffer, BiConsumer<FriendlyByteBuf,T> encoder) {
+      buffer.writeVarInt(indices.size());
+      for (T value : indices.keySet()) {
+        encoder.accept(buffer, value);
+      }
+    }
+
+    /**
+     * Writes the index of the given value
+     * @param buffer  Buffer instance
+     * @param value   Value, must have been added before writing the table
+     */
+    public void write(FriendlyByteBuf buffer, T value) {
+      int index = indices.getInt(value);
+      if (index == -1) {
+        throw new EncoderException("Value " + value + " missing from ID table");
+      }
+      buffer.writeVarInt(index);
+    }
+  }
+
+  /**
+   * Table read from the buffer, resolving indices back into values
+   * @param <T>  Value type
+   */
+  public static class Reader<T> {
+    private final Object[] values;
+
+    private Reader(Object[] values) {
+      this.values = values;
+    }
+
+    /**
+     * Reads the table from the buffer
+     * @param buffer   Buffer instance
+     * @param decoder  Logic to read each value, run once per unique value
+     * @return  Table reader
+     */
+    public static <T> Reader<T> read(FriendlyByteBuf buffer, Function<FriendlyByteBuf,T> decoder) {
+      int size = buffer.readVarInt();
+      Object[] values = new Object[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = decoder.apply(buffer);
+      }
+      return new Reader<>(values);
+    }
+
+    /**
+     * Reads a value by index
+     * @param buffer  Buffer instance
+     * @return  Value from the table
+     */
+    @SuppressWarnings("unchecked")
+    public T read(FriendlyByteBuf buffer) {
+      int index = buffer.readVarInt();
+      if (index < 0 || index >= values.length) {
+        throw new DecoderException("Invalid ID table index " + index + ", table has " + values.length + " values");
+      }
+      return (T) values[index];
+    }
+  }
+}
@@ -1,6 +1,5 @@
 package slimeknights.tconstruct.plugin.jei;
 
-import com.google.common.collect.ImmutableList;
 import mezz.jei.api.IModPlugin;
 import mezz.jei.api.JeiPlugin;
 import mezz.jei.api.constants.RecipeTypes;
@@ -45,7 +44,6 @@ import net.minecraftforge.fml.ModList;
 import net.minecraftforge.registries.ForgeRegistries;
 import net.minecraftforge.registries.tags.ITag;
 import slimeknights.mantle.item.RetexturedBlockItem;
-import slimeknights.mantle.recipe.helper.RecipeHelper;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.common.registration.CastItemObject;
@@ -55,18 +53,9 @@ import slimeknights.tconstruct.library.materials.definition.MaterialVariantId;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierId;
 import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
-import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe;
 import slimeknights.tconstruct.library.recipe.casting.IDisplayableCastingRecipe;
-import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipe;
-import slimeknights.tconstruct.library.recipe.fuel.MeltingFuel;
-import slimeknights.tconstruct.library.recipe.material.MaterialRecipe;
-import slimeknights.tconstruct.library.recipe.melting.MeltingRecipe;
 import slimeknights.tconstruct.library.recipe.modifiers.ModifierRecipeLookup;
-import slimeknights.tconstruct.library.recipe.modifiers.adding.IDisplayModifierRecipe;
-import slimeknights.tconstruct.library.recipe.modifiers.severing.SeveringRecipe;
 import slimeknights.tconstruct.library.recipe.molding.MoldingRecipe;
-import slimeknights.tconstruct.library.recipe.partbuilder.IDisplayPartBuilderRecipe;
-import slimeknights.tconstruct.library.recipe.worktable.IModifierWorktableRecipe;
 import slimeknights.tconstruct.library.tools.SlotType;
 import slimeknights.tconstruct.library.tools.definition.module.build.ToolTraitHook;
 import slimeknights.tconstruct.library.tools.item.IModifiable;
@@ -76,7 +65,6 @@ import slimeknights.tconstruct.library.tools.nbt.MaterialNBT;
 import slimeknights.tconstruct.library.tools.part.IMaterialItem;
 import slimeknights.tconstruct.plugin.jei.casting.CastingBasinCategory;
 import slimeknights.tconstruct.plugin.jei.casting.CastingTableCategory;
-import slimeknights.tconstruct.plugin.jei.entity.DefaultEntityMeltingRecipe;
 import slimeknights.tconstruct.plugin.jei.entity.EntityMeltingRecipeCategory;
 import slimeknights.tconstruct.plugin.jei.entity.SeveringCategory;
 import slimeknights.tconstruct.plugin.jei.melting.FoundryCategory;
@@ -117,6 +105,10 @@ import java.util.stream.Collectors;
 public class JEIPlugin implements IModPlugin {
   public static IModIdHelper modIdHelper;
 
+  public JEIPlugin() {
+    JEIRecipeLists.init();
+  }
+
   @Override
   public ResourceLocation getPluginUid() {
     return TConstructJEIConstants.PLUGIN;
@@ -159,57 +151,38 @@ public class JEIPlugin implements IModPlugin {
   public void registerRecipes(IRecipeRegistration register) {
     assert Minecraft.getInstance().level != null;
     RecipeManager manager = Minecraft.getInstance().level.getRecipeManager();
+    // lists are built in parallel, usually started as soon as tags synced
+    JEIRecipeLists.Lists lists = JEIRecipeLists.get(manager);
     // casting
-    List<IDisplayableCastingRecipe> castingBasinRecipes = RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.CASTING_BASIN.get(), IDisplayableCastingRecipe.class);
-    register.addRecipes(TConstructJEIConstants.CASTING_BASIN, castingBasinRecipes);
-    List<IDisplayableCastingRecipe> castingTableRecipes = RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.CASTING_TABLE.get(), IDisplayableCastingRecipe.class);
-    register.addRecipes(TConstructJEIConstants.CASTING_TABLE, castingTableRecipes);
+    register.addRecipes(TConstructJEIConstants.CASTING_BASIN, lists.castingBasin());
+    register.addRecipes(TConstructJEIConstants.CASTING_TABLE, lists.castingTable());
 
     // melting
-    List<MeltingRecipe> meltingRecipes = RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.MELTING.get(), MeltingRecipe.class);
-    register.addRecipes(TConstructJEIConstants.MELTING, meltingRecipes);
-    register.addRecipes(TConstructJEIConstants.FOUNDRY, meltingRecipes);
-    MeltingFuelHandler.setMeltngFuels(RecipeHelper.getRecipes(manager, TinkerRecipeTypes.FUEL.get(), MeltingFuel.class));
+    register.addRecipes(TConstructJEIConstants.MELTING, lists.melting());
+    register.addRecipes(TConstructJEIConstants.FOUNDRY, lists.melting());
+    MeltingFuelHandler.setMeltngFuels(lists.fuels());
 
     // entity melting
-    List<EntityMeltingRecipe> entityMeltingRecipes = RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.ENTITY_MELTING.get(), EntityMeltingRecipe.class);
-    // generate a "default" recipe for all other entity types
-    entityMeltingRecipes.add(new DefaultEntityMeltingRecipe(entityMeltingRecipes));
-    register.addRecipes(TConstructJEIConstants.ENTITY_MELTING, entityMeltingRecipes);
+    register.addRecipes(TConstructJEIConstants.ENTITY_MELTING, lists.entityMelting());
 
     // alloying
-    List<AlloyRecipe> alloyRecipes = RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.ALLOYING.get(), AlloyRecipe.class);
-    register.addRecipes(TConstructJEIConstants.ALLOY, alloyRecipes);
+    register.addRecipes(TConstructJEIConstants.ALLOY, lists.alloy());
 
     // molding
-    List<MoldingRecipe> moldingRecipes = ImmutableList.<MoldingRecipe>builder()
-      .addAll(RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.MOLDING_TABLE.get(), MoldingRecipe.class))
-      .addAll(RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.MOLDING_BASIN.get(), MoldingRecipe.class))
-      .build();
-    register.addRecipes(TConstructJEIConstants.MOLDING, moldingRecipes);
+    register.addRecipes(TConstructJEIConstants.MOLDING, lists.molding());
 
     // modifiers
-    List<IDisplayModifierRecipe> modifierRecipes = RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.TINKER_STATION.get(), IDisplayModifierRecipe.class)
-                                                               .stream()
-                                                               .sorted((r1, r2) -> {
-                                                                 SlotType t1 = r1.getSlotType();
-                                                                 SlotType t2 = r2.getSlotType();
-                                                                 String n1 = t1 == null ? "zzzzzzzzzz" : t1.getName();
-                                                                 String n2 = t2 == null ? "zzzzzzzzzz" : t2.getName();
-                                                                 return n1.compareTo(n2);
-                                                               }).collect(Collectors.toList());
-    register.addRecipes(TConstructJEIConstants.MODIFIERS, modifierRecipes);
+    register.addRecipes(TConstructJEIConstants.MODIFIERS, lists.modifiers());
 
     // beheading
-    List<SeveringRecipe> severingRecipes = RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.SEVERING.get(), SeveringRecipe.class);
-    register.addRecipes(TConstructJEIConstants.SEVERING, severingRecipes);
+    register.addRecipes(TConstructJEIConstants.SEVERING, lists.severing());
 
     // part builder
-    MaterialItemList.setRecipes(RecipeHelper.getRecipes(manager, TinkerRecipeTypes.MATERIAL.get(), MaterialRecipe.class));
-    register.addRecipes(TConstructJEIConstants.PART_BUILDER, RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.PART_BUILDER.get(), IDisplayPartBuilderRecipe.class));
+    MaterialItemList.setRecipes(lists.materials());
+    register.addRecipes(TConstructJEIConstants.PART_BUILDER, lists.partBuilder());
 
     // modifier worktable
-    register.addRecipes(TConstructJEIConstants.MODIFIER_WORKTABLE, RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.MODIFIER_WORKTABLE.get(), IModifierWorktableRecipe.class));
+    register.addRecipes(TConstructJEIConstants.MODIFIER_WORKTABLE, lists.worktable());
   }
 
   /**
@@ -0,0 +1,182 @@
+package slimeknights.tconstruct.plugin.jei;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraftforge.client.event.RecipesUpdatedEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.event.TagsUpdatedEvent.UpdateCause;
+import net.minecraftforge.eventbus.api.EventPriority;
+import slimeknights.mantle.recipe.helper.RecipeHelper;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe;
+import slimeknights.tconstruct.library.recipe.casting.IDisplayableCastingRecipe;
+import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipe;
+import slimeknights.tconstruct.library.recipe.fuel.MeltingFuel;
+import slimeknights.tconstruct.library.recipe.material.MaterialRecipe;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipe;
+import slimeknights.tconstruct.library.recipe.modifiers.adding.IDisplayModifierRecipe;
+import slimeknights.tconstruct.library.recipe.modifiers.severing.SeveringRecipe;
+import slimeknights.tconstruct.library.recipe.molding.MoldingRecipe;
+import slimeknights.tconstruct.library.recipe.partbuilder.IDisplayPartBuilderRecipe;
+import slimeknights.tconstruct.library.recipe.worktable.IModifierWorktableRecipe;
+import slimeknights.tconstruct.library.tools.SlotType;
+import slimeknights.tconstruct.plugin.jei.entity.DefaultEntityMeltingRecipe;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Builds the display recipe lists for all Tinkers' JEI categories in parallel off the main thread.
+ * Building starts as soon as the client has both recipes and tags for the current sync, so the lists are typically done by the time JEI calls {@link JEIPlugin#registerRecipes(mezz.jei.api.registration.IRecipeRegistration)}.
+ * Each recipe type is built by a single task, as {@link slimeknights.mantle.recipe.IMultiRecipe} implementations cache their display recipes without synchronization.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class JEIRecipeLists {
+  /** Sorts modifier recipes by slot type name, recipes without a slot type last */
+  private static final Comparator<IDisplayModifierRecipe> MODIFIER_ORDER = Comparator.comparing(IDisplayModifierRecipe::getSlotType, Comparator.nullsLast(Comparator.comparing(SlotType::getName)));
+
+  /** If true, the sync listeners were registered */
+  private static boolean initialized = false;
+  /** Incremented each time the client receives recipes, as the manager instance is reused between syncs */
+  private static int recipeGeneration = 0;
+  /** If true, recipes were received since the last build started */
+  private static boolean recipesReceived = false;
+  /** If true, tags were received since the last build started */
+  private static boolean tagsReceived = false;
+  /** Manager used to build the current lists */
+  @Nullable
+  private static RecipeManager manager;
+  /** Recipe generation used to build the current lists */
+  private static int builtGeneration = -1;
+  /** Lists being built for {@link #manager} */
+  @Nullable
+  private static CompletableFuture<Lists> lists;
+
+  /**
+   * Registers the listeners to start building lists once the client has both recipes and tags.
+   * On login recipes arrive before tags, while on reload tags arrive first, so the build starts on whichever comes second.
+   */
+  static synchronized void init() {
+    if (!initialized) {
+      initialized = true;
+      MinecraftForge.EVENT_BUS.addListener(EventPriority.HIGH, false, RecipesUpdatedEvent.class, event -> {
+        synchronized (JEIRecipeLists.class) {
+          recipeGeneration++;
+          recipesReceived = true;
+          startIfSynced(event.getRecipeManager());
+        }
+      });
+      MinecraftForge.EVENT_BUS.addListener(EventPriority.HIGH, false, TagsUpdatedEvent.class, event -> {
+        if (event.getUpdateCause() == UpdateCause.CLIENT_PACKET_RECEIVED && Minecraft.getInstance().level != null) {
+          synchronized (JEIRecipeLists.class) {
+            tagsReceived = true;
+            startIfSynced(Minecraft.getInstance().level.getRecipeManager());
+          }
+        }
+      });
+    }
+  }
+
+  /** Starts building if both recipes and tags were received since the last build */
+  private static void startIfSynced(RecipeManager manager) {
+    if (recipesReceived && tagsReceived) {
+      recipesReceived = false;
+      tagsReceived = false;
+      start(manager);
+    }
+  }
+
+  /** Starts building lists for the given manager, if not already started for its current recipes */
+  private static synchronized CompletableFuture<Lists> start(RecipeManager manager) {
+    if (lists == null || JEIRecipeLists.manager != manager || builtGeneration != recipeGeneration) {
+      JEIRecipeLists.manager = manager;
+      builtGeneration = recipeGeneration;
+      lists = build(manager);
+    }
+    return lists;
+  }
+
+  /**
+   * Gets the lists for the given manager, waiting for any tasks still running.
+   * The lists are released after this call so they are not held after JEI is done with them.
+   */
+  static Lists get(RecipeManager manager) {
+    CompletableFuture<Lists> future = start(manager);
+    Lists result = future.join();
+    synchronized (JEIRecipeLists.class) {
+      if (lists == future) {
+        JEIRecipeLists.manager = null;
+        lists = null;
+      }
+    }
+    return result;
+  }
+
+  /** Runs the given task on the background executor */
+  private static <T> CompletableFuture<T> async(Supplier<T> supplier) {
+    return CompletableFuture.supplyAsync(supplier, Util.backgroundExecutor());
+  }
+
+  /** Starts tasks for all lists */
+  private static CompletableFuture<Lists> build(RecipeManager manager) {
+    // casting
+    CompletableFuture<List<IDisplayableCastingRecipe>> castingBasin = async(() -> RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.CASTING_BASIN.get(), IDisplayableCastingRecipe.class));
+    CompletableFuture<List<IDisplayableCastingRecipe>> castingTable = async(() -> RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.CASTING_TABLE.get(), IDisplayableCastingRecipe.class));
+    // melting
+    CompletableFuture<List<MeltingRecipe>> melting = async(() -> RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.MELTING.get(), MeltingRecipe.class));
+    CompletableFuture<List<MeltingFuel>> fuels = async(() -> RecipeHelper.getRecipes(manager, TinkerRecipeTypes.FUEL.get(), MeltingFuel.class));
+    CompletableFuture<List<EntityMeltingRecipe>> entityMelting = async(() -> {
+      List<EntityMeltingRecipe> recipes = RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.ENTITY_MELTING.get(), EntityMeltingRecipe.class);
+      // generate a "default" recipe for all other entity types
+      recipes.add(new DefaultEntityMeltingRecipe(recipes));
+      return recipes;
+    });
+    CompletableFuture<List<AlloyRecipe>> alloy = async(() -> RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.ALLOYING.get(), AlloyRecipe.class));
+    // molding
+    CompletableFuture<List<MoldingRecipe>> molding = async(() -> {
+      List<MoldingRecipe> recipes = new ArrayList<>(RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.MOLDING_TABLE.get(), MoldingRecipe.class));
+      recipes.addAll(RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.MOLDING_BASIN.get(), MoldingRecipe.class));
+      return recipes;
+    });
+    // tinker station
+    CompletableFuture<List<IDisplayModifierRecipe>> modifiers = async(() -> {
+      List<IDisplayModifierRecipe> recipes = RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.TINKER_STATION.get(), IDisplayModifierRecipe.class);
+      recipes.sort(MODIFIER_ORDER);
+      return recipes;
+    });
+    CompletableFuture<List<SeveringRecipe>> severing = async(() -> RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.SEVERING.get(), SeveringRecipe.class));
+    // part builder
+    CompletableFuture<List<MaterialRecipe>> materials = async(() -> RecipeHelper.getRecipes(manager, TinkerRecipeTypes.MATERIAL.get(), MaterialRecipe.class));
+    CompletableFuture<List<IDisplayPartBuilderRecipe>> partBuilder = async(() -> RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.PART_BUILDER.get(), IDisplayPartBuilderRecipe.class));
+    // modifier worktable
+    CompletableFuture<List<IModifierWorktableRecipe>> worktable = async(() -> RecipeHelper.getJEIRecipes(manager, TinkerRecipeTypes.MODIFIER_WORKTABLE.get(), IModifierWorktableRecipe.class));
+
+    return CompletableFuture.allOf(castingBasin, castingTable, melting, fuels, entityMelting, alloy, molding, modifiers, severing, materials, partBuilder, worktable)
+                            .thenApply(v -> new Lists(castingBasin.join(), castingTable.join(), melting.join(), fuels.join(), entityMelting.join(), alloy.join(),
+                                                      molding.join(), modifiers.join(), severing.join(), materials.join(), partBuilder.join(), worktable.join()));
+  }
+
+  /** All lists needed for JEI recipe registration */
+  record Lists(
+    List<IDisplayableCastingRecipe> castingBasin,
+    List<IDisplayableCastingRecipe> castingTable,
+    List<MeltingRecipe> melting,
+    List<MeltingFuel> fuels,
+    List<EntityMeltingRecipe> entityMelting,
+    List<AlloyRecipe> alloy,
+    List<MoldingRecipe> molding,
+    List<IDisplayModifierRecipe> modifiers,
+    List<SeveringRecipe> severing,
+    List<MaterialRecipe> materials,
+    List<IDisplayPartBuilderRecipe> partBuilder,
+    List<IModifierWorktableRecipe> worktable
+  ) {}
+}
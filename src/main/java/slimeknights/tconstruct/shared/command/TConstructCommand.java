@@ -17,7 +17,9 @@ import slimeknights.tconstruct.shared.command.subcommand.GeneratePartTexturesCom
 import slimeknights.tconstruct.shared.command.subcommand.ModifierPriorityCommand;
 import slimeknights.tconstruct.shared.command.subcommand.ModifierUsageCommand;
 import slimeknights.tconstruct.shared.command.subcommand.ModifiersCommand;
+import slimeknights.tconstruct.shared.command.subcommand.ProfileCommand;
 import slimeknights.tconstruct.shared.command.subcommand.SlotsCommand;
+import slimeknights.tconstruct.shared.command.subcommand.SmelteryStatsCommand;
 import slimeknights.tconstruct.shared.command.subcommand.StatsCommand;
 
 import java.util.function.Consumer;
@@ -58,6 +60,8 @@ public class TConstructCommand {
       register(b, "modifier_priority", ModifierPriorityCommand::register);
     });
     register(builder, "generate_part_textures", GeneratePartTexturesCommand::register);
+    register(builder, "profile", ProfileCommand::register);
+    register(builder, "smeltery", b -> register(b, "stats", SmelteryStatsCommand::register));
 
     // register final command
     event.getDispatcher().register(builder);
@@ -0,0 +1,150 @@
+package slimeknights.tconstruct.shared.command.subcommand;
+
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.ClickEvent;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraftforge.common.util.TablePrinter;
+import slimeknights.mantle.command.MantleCommand;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.library.modifiers.util.ModifierHookProfiler;
+import slimeknights.tconstruct.library.modifiers.util.ModifierHookProfiler.Result;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/** Command to profile the time spent in each modifier hook */
+public class ProfileCommand {
+  private static final Component START = TConstruct.makeTranslation("command", "profile.start");
+  private static final Component START_ALLOCATIONS = TConstruct.makeTranslation("command", "profile.start.allocations");
+  private static final Component STOP = TConstruct.makeTranslation("command", "profile.stop");
+  private static final Component RESET = TConstruct.makeTranslation("command", "profile.reset");
+  private static final Component DUMP = TConstruct.makeTranslation("command", "profile.dump");
+  private static final String CSV = TConstruct.makeTranslationKey("command", "profile.csv");
+  private static final SimpleCommandExceptionType ALREADY_RUNNING = new SimpleCommandExceptionType(TConstruct.makeTranslation("command", "profile.already_running"));
+  private static final SimpleCommandExceptionType NOT_RUNNING = new SimpleCommandExceptionType(TConstruct.makeTranslation("command", "profile.not_running"));
+  private static final SimpleCommandExceptionType NO_ALLOCATIONS = new SimpleCommandExceptionType(TConstruct.makeTranslation("command", "profile.no_allocations"));
+  private static final SimpleCommandExceptionType NO_RESULTS = new SimpleCommandExceptionType(TConstruct.makeTranslation("command", "profile.no_results"));
+  private static final SimpleCommandExceptionType WRITE_FAILED = new SimpleCommandExceptionType(TConstruct.makeTranslation("command", "profile.write_failed"));
+  private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss");
+
+  /**
+   * Registers this sub command with the root command
+   * @param subCommand  Command builder
+   */
+  public static void register(LiteralArgumentBuilder<CommandSourceStack> subCommand) {
+    subCommand.requires(sender -> sender.hasPermission(MantleCommand.PERMISSION_EDIT_SPAWN))
+              // profile start [allocations]
+              .then(Commands.literal("start")
+                            .executes(context -> start(context, false))
+                            .then(Commands.literal("allocations").executes(context -> start(context, true))))
+              // profile stop
+              .then(Commands.literal("stop").executes(ProfileCommand::stop))
+              // profile reset
+              .then(Commands.literal("reset").executes(ProfileCommand::reset))
+              // profile dump [table|csv]
+              .then(Commands.literal("dump")
+                            .executes(ProfileCommand::dumpTable)
+                            .then(Commands.literal("table").executes(ProfileCommand::dumpTable))
+                            .then(Commands.literal("csv").executes(ProfileCommand::dumpCsv)));
+  }
+
+  /** Starts the profiler */
+  private static int start(CommandContext<CommandSourceStack> context, boolean allocations) throws CommandSyntaxException {
+    if (ModifierHookProfiler.isRunning()) {
+      throw ALREADY_RUNNING.create();
+    }
+    if (allocations && !ModifierHookProfiler.canTrackAllocations()) {
+      throw NO_ALLOCATIONS.create();
+    }
+    ModifierHookProfiler.start(allocations);
+    context.getSource().sendSuccess(allocations ? START_ALLOCATIONS : START, true);
+    return 1;
+  }
+
+  /** Stops the profiler */
+  private static int stop(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+    if (!ModifierHookProfiler.isRunning()) {
+      throw NOT_RUNNING.create();
+    }
+    ModifierHookProfiler.stop();
+    context.getSource().sendSuccess(STOP, true);
+    return 1;
+  }
+
+  /** Clears profiler results */
+  private static int reset(CommandContext<CommandSourceStack> context) {
+    ModifierHookProfiler.reset();
+    context.getSource().sendSuccess(RESET, true);
+    return 1;
+  }
+
+  /** Gets the current results, throwing if there are none */
+  private static List<Result> getResults() throws CommandSyntaxException {
+    List<Result> results = ModifierHookProfiler.getResults();
+    if (results.isEmpty()) {
+      throw NO_RESULTS.create();
+    }
+    return results;
+  }
+
+  /** Formats nanoseconds as milliseconds */
+  private static String millis(double nanos) {
+    return String.format("%.3f", nanos / 1_000_000);
+  }
+
+  /** Prints the results to the log as a table */
+  private static int dumpTable(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+    List<Result> results = getResults();
+    TablePrinter<Result> table = new TablePrinter<>();
+    table.header("Hook", r -> r.hook().getId().toString());
+    table.header("Modifier", r -> r.modifier().toString());
+    table.header("Calls", r -> Long.toString(r.calls()));
+    table.header("Total ms", r -> millis(r.totalNanos()));
+    table.header("Avg ms", r -> millis(r.averageNanos()));
+    table.header("Max ms", r -> millis(r.maxNanos()));
+    table.header("Alloc bytes", r -> Long.toString(r.allocatedBytes()));
+    table.add(results);
+
+    StringBuilder builder = new StringBuilder();
+    builder.append("Modifier hook profile");
+    if (ModifierHookProfiler.isRunning()) {
+      builder.append(" (still running)");
+    }
+    builder.append(":").append(System.lineSeparator());
+    table.build(builder);
+    TConstruct.LOG.info(builder.toString());
+    context.getSource().sendSuccess(DUMP, true);
+    return results.size();
+  }
+
+  /** Writes the results to a CSV file in the world folder */
+  private static int dumpCsv(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+    List<Result> results = getResults();
+    Path path = context.getSource().getServer().getWorldPath(LevelResource.ROOT).resolve(TConstruct.MOD_ID + "_profile_" + LocalDateTime.now().format(FILE_DATE) + ".csv").normalize();
+    try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+      writer.write("hook,modifier,calls,total_ns,max_ns,allocated_bytes");
+      writer.newLine();
+      for (Result result : results) {
+        writer.write(result.hook().getId() + "," + result.modifier() + "," + result.calls() + "," + result.totalNanos() + "," + result.maxNanos() + "," + result.allocatedBytes());
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      TConstruct.LOG.error("Failed to write modifier hook profile to {}", path, e);
+      throw WRITE_FAILED.create();
+    }
+    String fileName = path.getFileName().toString();
+    context.getSource().sendSuccess(Component.translatable(CSV, Component.literal(fileName).withStyle(style -> style.withUnderlined(true).withClickEvent(new ClickEvent(ClickEvent.Action.OPEN_FILE, path.toString())))), true);
+    return results.size();
+  }
+}
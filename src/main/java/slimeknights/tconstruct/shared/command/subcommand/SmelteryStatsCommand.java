@@ -0,0 +1,104 @@
+package slimeknights.tconstruct.shared.command.subcommand;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.common.util.TablePrinter;
+import slimeknights.mantle.command.MantleCommand;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.smeltery.block.entity.controller.HeatingStructureBlockEntity;
+import slimeknights.tconstruct.smeltery.block.entity.module.HeatingStructureMetrics;
+import slimeknights.tconstruct.smeltery.block.entity.module.HeatingStructureMetrics.Phase;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/** Command to list tick metrics for smelteries and foundries */
+public class SmelteryStatsCommand {
+  private static final String SUCCESS = TConstruct.makeTranslationKey("command", "smeltery_stats");
+  private static final SimpleCommandExceptionType NO_STRUCTURES = new SimpleCommandExceptionType(TConstruct.makeTranslation("command", "smeltery_stats.none"));
+  /** Sorts structures by average tick time, most expensive first */
+  private static final Comparator<HeatingStructureBlockEntity> ORDER = Comparator.comparingDouble((HeatingStructureBlockEntity structure) -> structure.getMetrics().getAverageNanos(Phase.TOTAL)).reversed();
+  /** Phases listed in the table */
+  private static final Phase[] PHASES = Phase.values();
+
+  /**
+   * Registers this sub command with the root command
+   * @param subCommand  Command builder
+   */
+  public static void register(LiteralArgumentBuilder<CommandSourceStack> subCommand) {
+    subCommand.requires(sender -> sender.hasPermission(MantleCommand.PERMISSION_EDIT_SPAWN))
+              // stats: top 10
+              .executes(context -> runTop(context, 10))
+              // stats top <count>
+              .then(Commands.literal("top").then(Commands.argument("count", IntegerArgumentType.integer(1))
+                                                         .executes(context -> runTop(context, IntegerArgumentType.getInteger(context, "count")))))
+              // stats radius <radius>
+              .then(Commands.literal("radius").then(Commands.argument("radius", IntegerArgumentType.integer(1))
+                                                            .executes(SmelteryStatsCommand::runRadius)));
+  }
+
+  /** Gets all structures with metrics */
+  private static Stream<HeatingStructureBlockEntity> getStructures() {
+    return HeatingStructureBlockEntity.getServerStructures().stream().filter(structure -> !structure.isRemoved() && structure.getMetrics().isReady());
+  }
+
+  /** Lists the most expensive structures on the server */
+  private static int runTop(CommandContext<CommandSourceStack> context, int count) throws CommandSyntaxException {
+    return run(context, getStructures().sorted(ORDER).limit(count).toList(), "Top " + count + " heating structures by tick time");
+  }
+
+  /** Lists structures near the command source */
+  private static int runRadius(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+    int radius = IntegerArgumentType.getInteger(context, "radius");
+    CommandSourceStack source = context.getSource();
+    Level level = source.getLevel();
+    Vec3 center = source.getPosition();
+    double radiusSqr = (double)radius * radius;
+    List<HeatingStructureBlockEntity> structures = getStructures()
+      .filter(structure -> structure.getLevel() == level && structure.getBlockPos().distToCenterSqr(center) <= radiusSqr)
+      .sorted(ORDER).toList();
+    return run(context, structures, "Heating structures within " + radius + " blocks of " + new BlockPos(center).toShortString());
+  }
+
+  /** Formats nanoseconds as microseconds */
+  private static String micros(double nanos) {
+    return String.format("%.1f", nanos / 1000);
+  }
+
+  /** Prints the table for the given structures */
+  private static int run(CommandContext<CommandSourceStack> context, List<HeatingStructureBlockEntity> structures, String title) throws CommandSyntaxException {
+    if (structures.isEmpty()) {
+      throw NO_STRUCTURES.create();
+    }
+    TablePrinter<HeatingStructureBlockEntity> table = new TablePrinter<>();
+    table.header("Position", structure -> structure.getBlockPos().toShortString());
+    table.header("Dimension", structure -> structure.getLevel() == null ? "" : structure.getLevel().dimension().location().toString());
+    for (Phase phase : PHASES) {
+      table.header(phase.getDisplayName() + " avg/max us", structure -> {
+        HeatingStructureMetrics metrics = structure.getMetrics();
+        return micros(metrics.getAverageNanos(phase)) + " / " + micros(metrics.getMaxNanos(phase));
+      });
+    }
+    table.header("Recipe hits/misses", structure -> structure.getMetrics().getRecipeHits() + " / " + structure.getMetrics().getRecipeMisses());
+    table.header("Fluid syncs/s", structure -> String.format("%.2f", structure.getMetrics().getFluidSyncsPerSecond()));
+    table.header("Structure checks", structure -> Integer.toString(structure.getMetrics().getStructureChecks()));
+    table.add(structures);
+
+    StringBuilder builder = new StringBuilder();
+    builder.append(title).append(" (last ").append(HeatingStructureMetrics.WINDOW_TICKS).append(" ticks):").append(System.lineSeparator());
+    table.build(builder);
+    TConstruct.LOG.info(builder.toString());
+    context.getSource().sendSuccess(Component.translatable(SUCCESS, structures.size()), true);
+    return structures.size();
+  }
+}
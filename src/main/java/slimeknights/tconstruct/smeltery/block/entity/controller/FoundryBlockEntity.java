@@ -11,6 +11,7 @@ import slimeknights.tconstruct.library.recipe.FluidValues;
 import slimeknights.tconstruct.smeltery.TinkerSmeltery;
 import slimeknights.tconstruct.smeltery.block.controller.ControllerBlock;
 import slimeknights.tconstruct.smeltery.block.entity.module.ByproductMeltingModuleInventory;
+import slimeknights.tconstruct.smeltery.block.entity.module.HeatingStructureMetrics.Phase;
 import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModuleInventory;
 import slimeknights.tconstruct.smeltery.block.entity.multiblock.FoundryMultiblock;
 import slimeknights.tconstruct.smeltery.block.entity.multiblock.HeatingStructureMultiblock;
@@ -58,13 +59,16 @@ public class FoundryBlockEntity extends HeatingStructureBlockEntity {
       // every second, interact with entities, will consume fuel if needed
       boolean entityMelted = false;
       if (tick == 12) {
+        long start = metrics.start();
         entityMelted = entityModule.interactWithEntities();
+        metrics.end(Phase.ENTITY, start);
       }
 
       // run in four phases alternating each tick, so each thing runs once every 4 ticks
       switch (tick % 4) {
         // first tick, find fuel if needed
-        case 0:
+        case 0: {
+          long start = metrics.start();
           if (!fuelModule.hasFuel()) {
             // if we melted something already, we need fuel
             if (entityMelted) {
@@ -76,17 +80,23 @@ public class FoundryBlockEntity extends HeatingStructureBlockEntity {
               }
             }
           }
+          metrics.end(Phase.FUEL, start);
           break;
+        }
         // second tick: melt items
-        case 1:
+        case 1: {
+          long start = metrics.start();
           if (fuelModule.hasFuel()) {
             meltingInventory.heatItems(fuelModule.getTemperature());
           } else {
             meltingInventory.coolItems();
           }
+          metrics.end(Phase.MELTING, start);
           break;
+        }
         // fourth tick: consume fuel, update fluids
         case 3: {
+          long start = metrics.start();
           // update the active state
           boolean hasFuel = fuelModule.hasFuel();
           BlockState state = getBlockState();
@@ -94,6 +104,7 @@ public class FoundryBlockEntity extends HeatingStructureBlockEntity {
             level.setBlockAndUpdate(worldPosition, state.setValue(ControllerBlock.ACTIVE, hasFuel));
           }
           fuelModule.decreaseFuel(fuelRate);
+          metrics.end(Phase.FUEL, start);
           break;
         }
       }
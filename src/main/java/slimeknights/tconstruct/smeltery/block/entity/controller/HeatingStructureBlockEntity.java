@@ -40,6 +40,9 @@ import slimeknights.tconstruct.smeltery.block.controller.ControllerBlock;
 import slimeknights.tconstruct.smeltery.block.controller.SmelteryControllerBlock;
 import slimeknights.tconstruct.smeltery.block.entity.module.EntityMeltingModule;
 import slimeknights.tconstruct.smeltery.block.entity.module.FuelModule;
+import slimeknights.tconstruct.smeltery.block.entity.module.HeatingStructureMetrics;
+import slimeknights.tconstruct.smeltery.block.entity.module.HeatingStructureMetrics.IMetricsHolder;
+import slimeknights.tconstruct.smeltery.block.entity.module.HeatingStructureMetrics.Phase;
 import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModuleInventory;
 import slimeknights.tconstruct.smeltery.block.entity.multiblock.HeatingStructureMultiblock;
 import slimeknights.tconstruct.smeltery.block.entity.multiblock.HeatingStructureMultiblock.StructureData;
@@ -59,11 +62,13 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
 
 import static slimeknights.mantle.util.RetexturedHelper.TAG_TEXTURE;
 
-public abstract class HeatingStructureBlockEntity extends NameableBlockEntity implements IMasterLogic, ISmelteryTankHandler, IRetexturedBlockEntity {
+public abstract class HeatingStructureBlockEntity extends NameableBlockEntity implements IMasterLogic, ISmelteryTankHandler, IRetexturedBlockEntity, IMetricsHolder {
   private static final String TAG_STRUCTURE = "multiblock";
   private static final String TAG_TANK = "tank";
   private static final String TAG_INVENTORY = "inventory";
@@ -73,6 +78,8 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
   public static final BlockEntityTicker<HeatingStructureBlockEntity> SERVER_TICKER = (level, pos, state, self) -> self.serverTick(level, pos, state);
   /** Ticker instance for the clientside */
   public static final BlockEntityTicker<HeatingStructureBlockEntity> CLIENT_TICKER = (level, pos, state, self) -> self.clientTick(level, pos, state);
+  /** All structures ticking on the server, for metrics reporting */
+  private static final Set<HeatingStructureBlockEntity> SERVER_STRUCTURES = Collections.newSetFromMap(new WeakHashMap<>());
 
   /** Sub module to detect the multiblock for this structure */
   private final HeatingStructureMultiblock<?> multiblock = createMultiblock();
@@ -84,6 +91,11 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
   private int errorVisibleFor = 0;
   /** Temporary hack until forge fixes {@link #onLoad()}, do a first tick listener here as drains don't tick */
   private boolean addedDrainListeners = false;
+  /** Tick metrics for this structure */
+  @Getter
+  protected final HeatingStructureMetrics metrics = new HeatingStructureMetrics();
+  /** If true, this structure was added to {@link #SERVER_STRUCTURES} */
+  private boolean trackingMetrics = false;
 
   /* Saved data, written to Tag */
   /** Current structure contents */
@@ -200,15 +212,23 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
     if (!state.hasProperty(ControllerBlock.IN_STRUCTURE)) {
       return;
     }
+    if (!trackingMetrics) {
+      trackingMetrics = true;
+      SERVER_STRUCTURES.add(this);
+    }
+    long tickStart = metrics.start();
 
     // run structure update if requested
     if (structureUpdateQueued) {
+      long start = metrics.start();
       checkStructure();
       structureUpdateQueued = false;
+      metrics.end(Phase.STRUCTURE, start);
     }
 
     // if we have a structure, run smeltery logic
     if (structure != null && state.getValue(SmelteryControllerBlock.IN_STRUCTURE)) {
+      long start = metrics.start();
       // every 15 seconds, check above the smeltery to try to expand
       if (tick == 0) {
         expandCounter++;
@@ -227,6 +247,7 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
           updateStructure();
         }
       }
+      metrics.end(Phase.STRUCTURE, start);
 
       // main heating logic
       heat();
@@ -234,8 +255,11 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
       // fluid update sync every four ticks, whether it has tanks or not
       if (tick % 4 == 3) {
         if (fluidUpdateQueued) {
+          start = metrics.start();
           fluidUpdateQueued = false;
           tank.syncFluids();
+          metrics.recordFluidSync();
+          metrics.end(Phase.FLUID_SYNC, start);
         }
       }
     } else if (tick == 0) {
@@ -244,6 +268,22 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
 
     // update tick timer
     tick = (tick + 1) % 20;
+    metrics.end(Phase.TOTAL, tickStart);
+    metrics.endTick();
+  }
+
+  @Override
+  public void setRemoved() {
+    super.setRemoved();
+    if (trackingMetrics) {
+      trackingMetrics = false;
+      SERVER_STRUCTURES.remove(this);
+    }
+  }
+
+  /** Gets all structures currently ticking on the server */
+  public static List<HeatingStructureBlockEntity> getServerStructures() {
+    return List.copyOf(SERVER_STRUCTURES);
   }
 
   /**
@@ -306,6 +346,7 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
     if (level == null || level.isClientSide) {
       return;
     }
+    metrics.recordStructureCheck();
     boolean wasFormed = getBlockState().getValue(ControllerBlock.IN_STRUCTURE);
     StructureData oldStructure = structure;
     StructureData newStructure = multiblock.detectMultiblock(level, worldPosition, getBlockState().getValue(BlockStateProperties.HORIZONTAL_FACING));
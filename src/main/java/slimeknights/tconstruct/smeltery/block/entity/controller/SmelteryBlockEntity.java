@@ -12,6 +12,7 @@ import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.library.recipe.FluidValues;
 import slimeknights.tconstruct.smeltery.TinkerSmeltery;
 import slimeknights.tconstruct.smeltery.block.controller.ControllerBlock;
+import slimeknights.tconstruct.smeltery.block.entity.module.HeatingStructureMetrics.Phase;
 import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModuleInventory;
 import slimeknights.tconstruct.smeltery.block.entity.module.alloying.MultiAlloyingModule;
 import slimeknights.tconstruct.smeltery.block.entity.module.alloying.SmelteryAlloyTank;
@@ -64,12 +65,15 @@ public class SmelteryBlockEntity extends HeatingStructureBlockEntity {
       // every second, interact with entities, will consume fuel if needed
       boolean entityMelted = false;
       if (tick == 12) {
+        long start = metrics.start();
         entityMelted = entityModule.interactWithEntities();
+        metrics.end(Phase.ENTITY, start);
       }
       // run in four phases alternating each tick, so each thing runs once every 4 ticks
       switch (tick % 4) {
         // first tick, find fuel if needed
-        case 0:
+        case 0: {
+          long start = metrics.start();
           if (!fuelModule.hasFuel()) {
             // if we melted something already, we need fuel
             if (entityMelted) {
@@ -83,24 +87,32 @@ public class SmelteryBlockEntity extends HeatingStructureBlockEntity {
               }
             }
           }
+          metrics.end(Phase.FUEL, start);
           break;
+        }
         // second tick: melt items
-        case 1:
+        case 1: {
+          long start = metrics.start();
           if (fuelModule.hasFuel()) {
             meltingInventory.heatItems(fuelModule.getTemperature());
           } else {
             meltingInventory.coolItems();
           }
+          metrics.end(Phase.MELTING, start);
           break;
+        }
         // third tick: alloy alloys
         case 2:
           if (fuelModule.hasFuel()) {
+            long start = metrics.start();
             alloyTank.setTemperature(fuelModule.getTemperature());
             alloyingModule.doAlloy();
+            metrics.end(Phase.ALLOYING, start);
           }
           break;
         // fourth tick: consume fuel, update fluids
         case 3: {
+          long start = metrics.start();
           // update the active state
           boolean hasFuel = fuelModule.hasFuel();
           BlockState state = getBlockState();
@@ -108,6 +120,7 @@ public class SmelteryBlockEntity extends HeatingStructureBlockEntity {
             level.setBlockAndUpdate(worldPosition, state.setValue(ControllerBlock.ACTIVE, hasFuel));
           }
           fuelModule.decreaseFuel(fuelRate);
+          metrics.end(Phase.FUEL, start);
           break;
         }
       }
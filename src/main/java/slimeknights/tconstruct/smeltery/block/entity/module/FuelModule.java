@@ -114,8 +114,10 @@ public class FuelModule implements ContainerData {
   @Nullable
   private MeltingFuel findRecipe(Fluid fluid) {
     if (lastRecipe != null && lastRecipe.matches(fluid)) {
+      HeatingStructureMetrics.recordRecipeLookup(parent, true);
       return lastRecipe;
     }
+    HeatingStructureMetrics.recordRecipeLookup(parent, false);
     MeltingFuel recipe = MeltingFuelLookup.findFuel(fluid);
     if (recipe != null) {
       lastRecipe = recipe;
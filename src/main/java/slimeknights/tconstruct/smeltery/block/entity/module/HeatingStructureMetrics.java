@@ -0,0 +1,153 @@
+package slimeknights.tconstruct.smeltery.block.entity.module;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import java.util.Arrays;
+
+/**
+ * Rolling tick metrics for a heating structure, used to find the most expensive structures on a server.
+ * Metrics are collected over a window of {@link #WINDOW_TICKS} ticks, and the last completed window is exposed through the getters.
+ */
+public class HeatingStructureMetrics {
+  /** Number of ticks in a single metrics window */
+  public static final int WINDOW_TICKS = 200;
+
+  /** Stats for the window being collected */
+  private Window current = new Window();
+  /** Stats for the last completed window */
+  private Window last = new Window();
+  /** Number of ticks into the current window */
+  private int windowTick = 0;
+  /** If true, at least one window completed */
+  @Getter
+  private boolean ready = false;
+
+  /** Starts timing a phase, pass the result to {@link #end(Phase, long)} */
+  public long start() {
+    return System.nanoTime();
+  }
+
+  /** Finishes timing a phase */
+  public void end(Phase phase, long start) {
+    long nanos = System.nanoTime() - start;
+    int index = phase.ordinal();
+    current.totalNanos[index] += nanos;
+    if (nanos > current.maxNanos[index]) {
+      current.maxNanos[index] = nanos;
+    }
+  }
+
+  /** Records a recipe lookup */
+  public void recordRecipeLookup(boolean hit) {
+    if (hit) {
+      current.recipeHits++;
+    } else {
+      current.recipeMisses++;
+    }
+  }
+
+  /** Records a fluid sync packet */
+  public void recordFluidSync() {
+    current.fluidSyncs++;
+  }
+
+  /** Records a full structure recheck */
+  public void recordStructureCheck() {
+    current.structureChecks++;
+  }
+
+  /** Called at the end of each tick to advance the window */
+  public void endTick() {
+    windowTick++;
+    if (windowTick >= WINDOW_TICKS) {
+      windowTick = 0;
+      // swap the windows to avoid allocating
+      Window completed = current;
+      current = last;
+      current.clear();
+      last = completed;
+      ready = true;
+    }
+  }
+
+  /** Gets the average nanoseconds per tick spent in the given phase */
+  public double getAverageNanos(Phase phase) {
+    return (double)last.totalNanos[phase.ordinal()] / WINDOW_TICKS;
+  }
+
+  /** Gets the max nanoseconds for a single run of the given phase */
+  public long getMaxNanos(Phase phase) {
+    return last.maxNanos[phase.ordinal()];
+  }
+
+  /** Gets the number of recipe lookups that reused the last recipe */
+  public int getRecipeHits() {
+    return last.recipeHits;
+  }
+
+  /** Gets the number of recipe lookups that searched the recipe manager */
+  public int getRecipeMisses() {
+    return last.recipeMisses;
+  }
+
+  /** Gets the number of fluid sync packets sent per second */
+  public float getFluidSyncsPerSecond() {
+    return last.fluidSyncs * 20f / WINDOW_TICKS;
+  }
+
+  /** Gets the number of full structure rechecks in the last window */
+  public int getStructureChecks() {
+    return last.structureChecks;
+  }
+
+  /**
+   * Records a recipe lookup for the given block entity, if it tracks metrics
+   * @param parent  Block entity owning the module performing the lookup
+   * @param hit     If true, the cached recipe was reused
+   */
+  public static void recordRecipeLookup(BlockEntity parent, boolean hit) {
+    if (parent instanceof IMetricsHolder holder) {
+      holder.getMetrics().recordRecipeLookup(hit);
+    }
+  }
+
+  /** Phases of the heating structure tick */
+  @RequiredArgsConstructor
+  public enum Phase {
+    STRUCTURE("Structure"),
+    FUEL("Fuel"),
+    MELTING("Melting"),
+    ALLOYING("Alloying"),
+    ENTITY("Entity"),
+    FLUID_SYNC("Fluid sync"),
+    TOTAL("Total");
+
+    @Getter
+    private final String displayName;
+  }
+
+  /** Block entity tracking metrics */
+  public interface IMetricsHolder {
+    /** Gets the metrics for this block entity */
+    HeatingStructureMetrics getMetrics();
+  }
+
+  /** Stats collected over a single window */
+  private static class Window {
+    private final long[] totalNanos = new long[Phase.values().length];
+    private final long[] maxNanos = new long[Phase.values().length];
+    private int recipeHits, recipeMisses, fluidSyncs, structureChecks;
+
+    /** Clears all stats */
+    private void clear() {
+      Arrays.fill(totalNanos, 0);
+      Arrays.fill(maxNanos, 0);
+      recipeHits = 0;
+      recipeMisses = 0;
+      fluidSyncs = 0;
+      structureChecks = 0;
+    }
+  }
+}
@@ -173,9 +173,11 @@ public class MeltingModule implements IMeltingContainer, ContainerData {
     // first, try last recipe for the slot
     IMeltingRecipe last = lastRecipe;
     if (last != null && last.matches(this, world)) {
+      HeatingStructureMetrics.recordRecipeLookup(parent, true);
       return last;
     }
     // if that fails, try to find a new recipe
+    HeatingStructureMetrics.recordRecipeLookup(parent, false);
     Optional<IMeltingRecipe> newRecipe = world.getRecipeManager().getRecipeFor(TinkerRecipeTypes.MELTING.get(), this, world);
     if (newRecipe.isPresent()) {
       lastRecipe = newRecipe.get();
@@ -6,6 +6,7 @@ import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe;
 import slimeknights.tconstruct.library.recipe.alloying.IAlloyTank;
 import slimeknights.tconstruct.library.recipe.alloying.IMutableAlloyTank;
+import slimeknights.tconstruct.smeltery.block.entity.module.HeatingStructureMetrics;
 
 import javax.annotation.Nullable;
 import java.util.Collections;
@@ -47,7 +48,10 @@ public class MultiAlloyingModule implements IAlloyingModule {
    */
   private List<AlloyRecipe> getRecipes() {
     if (lastRecipes == null) {
+      HeatingStructureMetrics.recordRecipeLookup(parent, false);
       lastRecipes = getLevel().getRecipeManager().getRecipesFor(TinkerRecipeTypes.ALLOYING.get(), alloyTank, getLevel());
+    } else {
+      HeatingStructureMetrics.recordRecipeLookup(parent, true);
     }
     return lastRecipes;
   }
@@ -8,8 +8,8 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.state.BlockState;
 import slimeknights.mantle.client.model.inventory.ModelItem;
 import slimeknights.mantle.client.model.util.ModelHelper;
-import slimeknights.mantle.client.render.FluidRenderer;
 import slimeknights.mantle.client.render.RenderingHelper;
+import slimeknights.tconstruct.library.client.FluidMeshCache;
 import slimeknights.tconstruct.library.client.RenderUtils;
 import slimeknights.tconstruct.library.client.model.block.CastingModel;
 import slimeknights.tconstruct.smeltery.block.entity.CastingBlockEntity;
@@ -51,7 +51,7 @@ public class CastingBlockEntityRenderer implements BlockEntityRenderer<CastingBl
       if (tank.getFluid().getAmount() == tank.getCapacity()) {
         RenderUtils.renderTransparentCuboid(matrices, buffer, model.getFluid(), tank.getFluid(), fluidOpacity, light);
       } else {
-        FluidRenderer.renderScaledCuboid(matrices, buffer, model.getFluid(), tank.getFluid(), 0, tank.getCapacity(), light, false);
+        FluidMeshCache.renderScaledCuboid(matrices, buffer, model.getFluid(), tank.getFluid(), tank.getCapacity(), light, false);
       }
 
       // render items
@@ -19,6 +19,7 @@ import slimeknights.mantle.client.model.util.ModelHelper;
 import slimeknights.mantle.client.render.FluidRenderer;
 import slimeknights.mantle.client.render.MantleRenderTypes;
 import slimeknights.mantle.client.render.RenderingHelper;
+import slimeknights.tconstruct.library.client.FluidMeshCache;
 import slimeknights.tconstruct.library.client.model.block.ChannelModel;
 import slimeknights.tconstruct.smeltery.block.ChannelBlock;
 import slimeknights.tconstruct.smeltery.block.ChannelBlock.ChannelConnection;
@@ -80,12 +81,12 @@ public class ChannelBlockEntityRenderer implements BlockEntityRenderer<ChannelBl
 					}
 					// render the extra edge against other blocks
 					if (!world.getBlockState(pos.relative(direction)).is(state.getBlock())) {
-						FluidRenderer.renderCuboid(matrices, builder, model.getSideEdge(), 0, still, flowing, color, light, false);
+						FluidMeshCache.renderCuboid(matrices, builder, model.getSideEdge(), still, flowing, color, light, false);
 					}
 				} else {
 					cube = model.getSideStill();
 				}
-				FluidRenderer.renderCuboid(matrices, builder, cube, 0, still, flowing, color, light, false);
+				FluidMeshCache.renderCuboid(matrices, builder, cube, still, flowing, color, light, false);
 				// undo rotation
 				if (isRotated) {
 					matrices.popPose();
@@ -102,7 +103,7 @@ public class ChannelBlockEntityRenderer implements BlockEntityRenderer<ChannelBl
 			isRotated = RenderingHelper.applyRotation(matrices, centerFlow);
 		}
 		// render the cube and pop back
-		FluidRenderer.renderCuboid(matrices, builder, cube, 0, still, flowing, color, light, false);
+		FluidMeshCache.renderCuboid(matrices, builder, cube, still, flowing, color, light, false);
 		if (isRotated) {
 			matrices.popPose();
 		}
@@ -110,7 +111,7 @@ public class ChannelBlockEntityRenderer implements BlockEntityRenderer<ChannelBl
 		// render flow downwards
 		if (state.getValue(ChannelBlock.DOWN) && te.isFlowing(Direction.DOWN)) {
 			cube = model.getDownFluid();
-			FluidRenderer.renderCuboid(matrices, builder, cube, 0, still, flowing, color, light, false);
+			FluidMeshCache.renderCuboid(matrices, builder, cube, still, flowing, color, light, false);
 
 			// render into the block(s) below
 			FaucetFluidLoader.renderFaucetFluids(world, pos, Direction.DOWN, matrices, builder, still, flowing, color, light);
@@ -22,6 +22,7 @@ import slimeknights.mantle.client.model.util.ModelHelper;
 import slimeknights.mantle.client.render.FluidRenderer;
 import slimeknights.mantle.client.render.MantleRenderTypes;
 import slimeknights.mantle.client.render.RenderingHelper;
+import slimeknights.tconstruct.library.client.FluidMeshCache;
 import slimeknights.tconstruct.smeltery.block.FaucetBlock;
 import slimeknights.tconstruct.smeltery.block.entity.FaucetBlockEntity;
 
@@ -64,7 +65,7 @@ public class FaucetBlockEntityRenderer implements BlockEntityRenderer<FaucetBloc
       // render all cubes in the model
       VertexConsumer buffer = bufferIn.getBuffer(MantleRenderTypes.FLUID);
       for (FluidCuboid cube : model.getFluids()) {
-        FluidRenderer.renderCuboid(matrices, buffer, cube, 0, still, flowing, color, combinedLightIn, isGas);
+        FluidMeshCache.renderCuboid(matrices, buffer, cube, still, flowing, color, combinedLightIn, isGas);
       }
 
       // render into the block(s) below
@@ -19,6 +19,7 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraftforge.client.model.data.ModelData;
 import slimeknights.tconstruct.common.config.Config;
@@ -29,8 +30,18 @@ import slimeknights.tconstruct.smeltery.block.entity.controller.HeatingStructure
 import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModuleInventory;
 import slimeknights.tconstruct.smeltery.block.entity.multiblock.HeatingStructureMultiblock.StructureData;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 public class HeatingStructureBlockEntityRenderer implements BlockEntityRenderer<HeatingStructureBlockEntity> {
   private static final float ITEM_SCALE = 15f/16f;
+  /** Random for counting quads, as the count is just an estimate there is no need to seed it */
+  private static final RandomSource QUAD_RANDOM = RandomSource.create();
+  /** Quad counts for each item model, weak so models from old resource packs are released */
+  private static final Map<BakedModel,Integer> QUAD_COUNTS = new WeakHashMap<>();
+
+  /** Item layout for each structure, rebuilt when the structure or inventory changes */
+  private final Map<HeatingStructureBlockEntity,ItemLayout> layouts = new WeakHashMap<>();
 
   public HeatingStructureBlockEntityRenderer(Context context) {}
 
@@ -78,58 +89,138 @@ public class HeatingStructureBlockEntityRenderer implements BlockEntityRenderer<
     SmelteryTankRenderer.renderFluids(matrices, buffer, smeltery.getTank(), minPos, maxPos, LevelRenderer.getLightColor(world, minPos));
 
     // render items
-    int xd = 1 + maxPos.getX() - minPos.getX();
-    int zd = 1 + maxPos.getZ() - minPos.getZ();
-    int layer = xd * zd;
-    Direction facing = state.getValue(ControllerBlock.FACING);
-    Quaternion itemRotation = Vector3f.YP.rotationDegrees(-90.0F * (float)facing.get2DDataValue());
-    MeltingModuleInventory inventory = smeltery.getMeltingInventory();
-    Minecraft mc = Minecraft.getInstance();
-    ItemRenderer itemRenderer = mc.getItemRenderer();
     int max = Config.CLIENT.maxSmelteryItemQuads.get();
     if (max != 0) {
+      Direction facing = state.getValue(ControllerBlock.FACING);
+      Quaternion itemRotation = Vector3f.YP.rotationDegrees(-90.0F * (float)facing.get2DDataValue());
+      ItemLayout layout = getLayout(smeltery, structure, world);
+      Minecraft mc = Minecraft.getInstance();
+      ItemRenderer itemRenderer = mc.getItemRenderer();
+      // items far from the camera are too small to matter, skip them
+      int distance = Config.CLIENT.smelteryItemRenderDistance.get();
+      double maxDistanceSqr = distance == 0 ? Double.MAX_VALUE : distance * distance;
+      Vec3 camera = mc.gameRenderer.getMainCamera().getPosition();
       int quadsRendered = 0;
-      for (int i = 0; i < inventory.getSlots(); i++) {
+      for (int i = 0; i < layout.size; i++) {
+        BlockPos itemPos = layout.positions[i];
+        if (camera.distanceToSqr(itemPos.getX() + 0.5, itemPos.getY() + 0.5, itemPos.getZ() + 0.5) > maxDistanceSqr) {
+          continue;
+        }
+        // offset to the slot position in the structure, scale, and rotate the item
+        matrices.pushPose();
+        matrices.translate(itemPos.getX() - minPos.getX() + 0.5f, itemPos.getY() - minPos.getY() + 0.5f, itemPos.getZ() - minPos.getZ() + 0.5f);
+        matrices.mulPose(itemRotation);
+        matrices.scale(ITEM_SCALE, ITEM_SCALE, ITEM_SCALE);
+        itemRenderer.render(layout.stacks[i], TinkerTransformTypes.MELTER, false, matrices, buffer, LevelRenderer.getLightColor(world, itemPos), OverlayTexture.NO_OVERLAY, layout.models[i]);
+        matrices.popPose();
+
+        // done as quads rather than items as its not that expensive to draw blocks, items are the problem
+        if (max != -1) {
+          quadsRendered += layout.quads[i];
+          if (quadsRendered > max) {
+            break;
+          }
+        }
+      }
+    }
+
+    matrices.popPose();
+  }
+
+  /** Gets the item layout for the given structure, rebuilding it if the contents changed */
+  private ItemLayout getLayout(HeatingStructureBlockEntity smeltery, StructureData structure, Level world) {
+    MeltingModuleInventory inventory = smeltery.getMeltingInventory();
+    ItemLayout layout = layouts.get(smeltery);
+    if (layout == null || !layout.matches(structure, inventory)) {
+      layout = new ItemLayout(structure, inventory, world);
+      layouts.put(smeltery, layout);
+    }
+    return layout;
+  }
+
+  /**
+   * Gets the number of quads in the given model, used to limit the number of items rendered.
+   * Not setting the seed on the random and ignoring the forge layered model stuff means this is just an estimate, but since this is for the sake of performance its not a huge deal for it to be exact
+   */
+  private static int getQuadCount(BakedModel model) {
+    Integer cached = QUAD_COUNTS.get(model);
+    if (cached != null) {
+      return cached;
+    }
+    int quads;
+    // builtin has no quads, lets pretend its 100 as they are more expensive
+    if (model.isCustomRenderer()) {
+      quads = 100;
+    } else {
+      quads = 0;
+      for (Direction direction : Direction.values()) {
+        quads += model.getQuads(null, direction, QUAD_RANDOM, ModelData.EMPTY, null).size();
+      }
+      quads += model.getQuads(null, null, QUAD_RANDOM, ModelData.EMPTY, null).size();
+    }
+    QUAD_COUNTS.put(model, quads);
+    return quads;
+  }
+
+  /** Items to render in a structure, along with their resolved models and quad counts */
+  private static class ItemLayout {
+    /** Structure this layout was built for */
+    private final StructureData structure;
+    /** Stack in each slot when built, compared by reference as modules replace the stack on any change */
+    private final ItemStack[] slotStacks;
+    /** Number of items to render */
+    private final int size;
+    private final ItemStack[] stacks;
+    private final BakedModel[] models;
+    private final int[] quads;
+    private final BlockPos[] positions;
+
+    private ItemLayout(StructureData structure, MeltingModuleInventory inventory, Level world) {
+      this.structure = structure;
+      int slots = inventory.getSlots();
+      this.slotStacks = new ItemStack[slots];
+      this.stacks = new ItemStack[slots];
+      this.models = new BakedModel[slots];
+      this.quads = new int[slots];
+      this.positions = new BlockPos[slots];
+
+      BlockPos minPos = structure.getMinInside();
+      BlockPos maxPos = structure.getMaxInside();
+      int xd = 1 + maxPos.getX() - minPos.getX();
+      int zd = 1 + maxPos.getZ() - minPos.getZ();
+      int layer = xd * zd;
+      ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
+      int size = 0;
+      for (int i = 0; i < slots; i++) {
         ItemStack stack = inventory.getStackInSlot(i);
+        slotStacks[i] = stack;
         if (!stack.isEmpty()) {
           // calculate position inside the smeltery from slot index
           int height = i / layer;
           int layerIndex = i % layer;
-          int offsetX = layerIndex % xd;
-          int offsetZ = layerIndex / xd;
-          BlockPos itemPos = minPos.offset(offsetX, height, offsetZ);
-
-          // offset to the slot position in the structure, scale, and rotate the item
-          matrices.pushPose();
-          matrices.translate(offsetX + 0.5f, height + 0.5f, offsetZ + 0.5f);
-          matrices.mulPose(itemRotation);
-          matrices.scale(ITEM_SCALE, ITEM_SCALE, ITEM_SCALE);
           BakedModel model = itemRenderer.getModel(stack, world, null, 0);
-          itemRenderer.render(stack, TinkerTransformTypes.MELTER, false, matrices, buffer, LevelRenderer.getLightColor(world, itemPos), OverlayTexture.NO_OVERLAY, model);
-          matrices.popPose();
-
-          // done as quads rather than items as its not that expensive to draw blocks, items are the problem
-          if (max != -1) {
-            // builtin has no quads, lets pretend its 100 as they are more expensive
-            if (model.isCustomRenderer()) {
-              quadsRendered += 100;
-            } else {
-              RandomSource random = smeltery.getLevel().getRandom();
-              // not setting the seed on the random and ignoring the forge layered model stuff means this is just an estimate, but since this is for the sake of performance its not a huge deal for it to be exact
-              for (Direction direction : Direction.values()) {
-                quadsRendered += model.getQuads(null, direction, random, ModelData.EMPTY, null).size();
-              }
-              quadsRendered += model.getQuads(null, null, random, ModelData.EMPTY, null).size();
-            }
-            if (quadsRendered > max) {
-              break;
-            }
-          }
+          stacks[size] = stack;
+          models[size] = model;
+          quads[size] = getQuadCount(model);
+          positions[size] = minPos.offset(layerIndex % xd, height, layerIndex / xd);
+          size++;
         }
       }
+      this.size = size;
     }
 
-    matrices.popPose();
+    /** Checks if this layout is still valid for the given structure and inventory */
+    private boolean matches(StructureData structure, MeltingModuleInventory inventory) {
+      if (this.structure != structure || slotStacks.length != inventory.getSlots()) {
+        return false;
+      }
+      for (int i = 0; i < slotStacks.length; i++) {
+        if (slotStacks[i] != inventory.getStackInSlot(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
   }
 
   @Override
@@ -12,6 +12,7 @@ import net.minecraftforge.client.extensions.common.IClientFluidTypeExtensions;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidType;
 import slimeknights.mantle.client.render.FluidRenderer;
+import slimeknights.tconstruct.library.client.FluidMeshCache;
 import slimeknights.tconstruct.library.client.TinkerRenderTypes;
 import slimeknights.tconstruct.smeltery.block.entity.tank.SmelteryTank;
 import slimeknights.tconstruct.smeltery.client.screen.module.GuiSmelteryTank;
@@ -24,6 +25,8 @@ public class SmelteryTankRenderer {
   private static final float FLUID_OFFSET = 0.005f;
   /** Amount to subtract from the height for fluid offset */
   private static final int HEIGHT_OFFSET = (int) (FLUID_OFFSET * 2000d);
+  /** Number of height steps per block, fluid layers are snapped to these so cached meshes are reused while the amounts change */
+  private static final int HEIGHT_STEPS = 16;
 
   /**
    * Gets the integer bounds for rendering a fluid with the given delta
@@ -50,6 +53,9 @@ public class SmelteryTankRenderer {
     return bounds;
   }
 
+  /** Key for a cached large cuboid, the X and Z bounds are determined by the sizes */
+  private record LargeCuboidKey(TextureAtlasSprite still, int color, int light, boolean upsideDown, int xd, int zd, float yMin, float yMax) {}
+
   /**
    * Renders the smeltery tank fluids, relative to tankMinPos
    * @param matrices    Matrix stack instance
@@ -82,10 +88,14 @@ public class SmelteryTankRenderer {
       // rendering time
       VertexConsumer builder = buffer.getBuffer(TinkerRenderTypes.SMELTERY_FLUID);
       float curY = FLUID_OFFSET;
+      float maxY = yd - FLUID_OFFSET;
+      int total = 0;
       for (int i = 0; i < fluids.size(); i++) {
-        float h = (float) heights[i] / 1000f;
-        renderLargeFluidCuboid(matrices, builder, fluids.get(i), brightness, xd, xBounds, zd, zBounds, curY, curY + h);
-        curY += h;
+        // snap the top of each layer to a pixel, the minimum layer height is larger than a step so no layer disappears
+        total += heights[i];
+        float nextY = Math.min(FLUID_OFFSET + Math.round(total * HEIGHT_STEPS / 1000f) / (float) HEIGHT_STEPS, maxY);
+        renderLargeFluidCuboid(matrices, builder, fluids.get(i), brightness, xd, xBounds, zd, zBounds, curY, nextY);
+        curY = nextY;
       }
     }
   }
@@ -113,40 +123,42 @@ public class SmelteryTankRenderer {
     TextureAtlasSprite still = FluidRenderer.getBlockSprite(attributes.getStillTexture(fluid));
     int color = attributes.getTintColor(fluid);
     FluidType fluidType = fluid.getFluid().getFluidType();
-    brightness = FluidRenderer.withBlockLight(brightness, fluidType.getLightLevel(fluid));
+    int light = FluidRenderer.withBlockLight(brightness, fluidType.getLightLevel(fluid));
     boolean upsideDown = fluidType.isLighterThanAir();
 
-    // the liquid can stretch over more blocks than the subtracted height is if yMin's decimal is bigger than yMax's decimal (causing UV over 1)
-    // ignoring the decimals prevents this, as yd then equals exactly how many ints are between the two
-    // for example, if yMax = 5.1 and yMin = 2.3, 2.8 (which rounds to 2), with the face array becoming 2.3, 3, 4, 5.1
-    int yd = (int) (yMax - (int) yMin);
-    // except in the rare case of yMax perfectly aligned with the block, causing the top face to render multiple times
-    // for example, if yMax = 3 and yMin = 1, the values of the face array become 1, 2, 3, 3 as we then have middle ints
-    if (yMax % 1d == 0) yd--;
-    float[] yBounds = getBlockBounds(yd, yMin, yMax);
+    FluidMeshCache.render(matrices, builder, new LargeCuboidKey(still, color, light, upsideDown, xd, zd, yMin, yMax), (pose, recorder) -> {
+      // the liquid can stretch over more blocks than the subtracted height is if yMin's decimal is bigger than yMax's decimal (causing UV over 1)
+      // ignoring the decimals prevents this, as yd then equals exactly how many ints are between the two
+      // for example, if yMax = 5.1 and yMin = 2.3, 2.8 (which rounds to 2), with the face array becoming 2.3, 3, 4, 5.1
+      int yd = (int) (yMax - (int) yMin);
+      // except in the rare case of yMax perfectly aligned with the block, causing the top face to render multiple times
+      // for example, if yMax = 3 and yMin = 1, the values of the face array become 1, 2, 3, 3 as we then have middle ints
+      if (yMax % 1d == 0) yd--;
+      float[] yBounds = getBlockBounds(yd, yMin, yMax);
 
-    // render each side
-    Matrix4f matrix = matrices.last().pose();
-    Vector3f from = new Vector3f();
-    Vector3f to = new Vector3f();
-    int rotation = upsideDown ? 180 : 0;
-    for(int y = 0; y <= yd; y++) {
-      for(int z = 0; z <= zd; z++) {
-        for(int x = 0; x <= xd; x++) {
-          from.set(xBounds[x], yBounds[y], zBounds[z]);
-          to.set(xBounds[x + 1], yBounds[y + 1], zBounds[z + 1]);
-          if (x == 0)  FluidRenderer.putTexturedQuad(builder, matrix, still, from, to, Direction.WEST,  color, brightness, rotation, false);
-          if (x == xd) FluidRenderer.putTexturedQuad(builder, matrix, still, from, to, Direction.EAST,  color, brightness, rotation, false);
-          if (z == 0)  FluidRenderer.putTexturedQuad(builder, matrix, still, from, to, Direction.NORTH, color, brightness, rotation, false);
-          if (z == zd) FluidRenderer.putTexturedQuad(builder, matrix, still, from, to, Direction.SOUTH, color, brightness, rotation, false);
-          if (y == yd) FluidRenderer.putTexturedQuad(builder, matrix, still, from, to, Direction.UP,    color, brightness, rotation, false);
-          if (y == 0) {
-            // increase Y position slightly to prevent z fighting on neighboring fluids
-            from.setY(from.y() + 0.001f);
-            FluidRenderer.putTexturedQuad(builder, matrix, still,   from, to, Direction.DOWN,  color, brightness, rotation, false);
+      // render each side
+      Matrix4f matrix = pose.last().pose();
+      Vector3f from = new Vector3f();
+      Vector3f to = new Vector3f();
+      int rotation = upsideDown ? 180 : 0;
+      for(int y = 0; y <= yd; y++) {
+        for(int z = 0; z <= zd; z++) {
+          for(int x = 0; x <= xd; x++) {
+            from.set(xBounds[x], yBounds[y], zBounds[z]);
+            to.set(xBounds[x + 1], yBounds[y + 1], zBounds[z + 1]);
+            if (x == 0)  FluidRenderer.putTexturedQuad(recorder, matrix, still, from, to, Direction.WEST,  color, light, rotation, false);
+            if (x == xd) FluidRenderer.putTexturedQuad(recorder, matrix, still, from, to, Direction.EAST,  color, light, rotation, false);
+            if (z == 0)  FluidRenderer.putTexturedQuad(recorder, matrix, still, from, to, Direction.NORTH, color, light, rotation, false);
+            if (z == zd) FluidRenderer.putTexturedQuad(recorder, matrix, still, from, to, Direction.SOUTH, color, light, rotation, false);
+            if (y == yd) FluidRenderer.putTexturedQuad(recorder, matrix, still, from, to, Direction.UP,    color, light, rotation, false);
+            if (y == 0) {
+              // increase Y position slightly to prevent z fighting on neighboring fluids
+              from.setY(from.y() + 0.001f);
+              FluidRenderer.putTexturedQuad(recorder, matrix, still,   from, to, Direction.DOWN,  color, light, rotation, false);
+            }
           }
         }
       }
-    }
+    });
   }
 }
@@ -16,6 +16,7 @@ import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.recipe.RecipeResult;
 import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.worktable.IModifierWorktableRecipe;
+import slimeknights.tconstruct.library.tools.nbt.ToolRebuildCache;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.shared.inventory.ConfigurableInvWrapperCapability;
 import slimeknights.tconstruct.tables.TinkerTables;
@@ -88,7 +89,8 @@ public class ModifierWorktableBlockEntity extends RetexturedTableBlockEntity imp
 
         // last recipe must be nonnull for list to be non-empty
         assert lastRecipe != null;
-        RecipeResult<ToolStack> recipeResult = lastRecipe.getResult(inventoryWrapper, entry);
+        IModifierWorktableRecipe recipe = lastRecipe;
+        RecipeResult<ToolStack> recipeResult = ToolRebuildCache.preview(() -> recipe.getResult(inventoryWrapper, entry));
         if (recipeResult.isSuccess()) {
           result = recipeResult.getResult();
           currentMessage = Component.empty();
@@ -68,6 +68,11 @@ public class PartBuilderToolRecycle implements IPartBuilderRecipe {
     return ERROR;
   }
 
+  @Override
+  public Ingredient getPatternItem() {
+    return pattern;
+  }
+
   @Override
   public Stream<Pattern> getPatterns(IPartBuilderContainer inv) {
     if (inv.getStack().getItem() instanceof IModifiable modifiable) {
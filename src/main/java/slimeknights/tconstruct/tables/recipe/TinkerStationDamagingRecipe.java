@@ -45,6 +45,16 @@ public class TinkerStationDamagingRecipe implements ITinkerStationRecipe {
     return IncrementalModifierRecipe.containsOnlyIngredient(inv, ingredient);
   }
 
+  @Override
+  public Ingredient getToolFilter() {
+    return Ingredient.of(TinkerTags.Items.DURABILITY);
+  }
+
+  @Override
+  public Ingredient getInputFilter() {
+    return ingredient;
+  }
+
   @Override
   public RecipeResult<ItemStack> getValidatedResult(ITinkerStationContainer inv) {
     if (ToolDamageUtil.isBroken(inv.getTinkerableStack())) {
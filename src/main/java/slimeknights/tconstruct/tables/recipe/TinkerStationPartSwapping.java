@@ -6,6 +6,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.level.Level;
 import slimeknights.tconstruct.TConstruct;
@@ -83,6 +84,11 @@ public class TinkerStationPartSwapping implements ITinkerStationRecipe {
     return foundItem;
   }
 
+  @Override
+  public Ingredient getToolFilter() {
+    return Ingredient.of(TinkerTags.Items.MULTIPART_TOOL);
+  }
+
   /** @deprecated Use {@link #assemble(ITinkerStationContainer)}  */
   @Deprecated
   @Override
@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.level.Level;
 import slimeknights.tconstruct.TConstruct;
@@ -124,6 +125,11 @@ public class TinkerStationRepairRecipe implements ITinkerStationRecipe {
     return material != null;
   }
 
+  @Override
+  public Ingredient getToolFilter() {
+    return Ingredient.of(TinkerTags.Items.DURABILITY);
+  }
+
   @Override
   public int shrinkToolSlotBy() {
     return 1;
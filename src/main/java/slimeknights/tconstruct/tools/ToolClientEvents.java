@@ -58,6 +58,7 @@ import slimeknights.tconstruct.library.modifiers.ModifierId;
 import slimeknights.tconstruct.library.modifiers.ModifierManager;
 import slimeknights.tconstruct.library.modifiers.modules.technical.ArmorStatModule;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataKeys;
+import slimeknights.tconstruct.library.tools.helper.TooltipCache;
 import slimeknights.tconstruct.library.tools.item.armor.texture.ArmorTextureSupplier;
 import slimeknights.tconstruct.library.tools.item.armor.texture.MaterialArmorTextureSupplier;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
@@ -101,6 +102,7 @@ public class ToolClientEvents extends ClientEventBase {
     manager.registerReloadListener(HarvestTiers.RELOAD_LISTENER);
     manager.registerReloadListener(MaterialArmorTextureSupplier.RELOAD_LISTENER);
     manager.registerReloadListener(ArmorTextureSupplier.ARMOR_VALIDATOR);
+    manager.registerReloadListener(TooltipCache.RELOAD_LISTENER);
   }
 
   @SubscribeEvent
@@ -137,6 +139,7 @@ public class ToolClientEvents extends ClientEventBase {
     MinecraftForge.EVENT_BUS.addListener(ToolClientEvents::handleKeyBindings);
     MinecraftForge.EVENT_BUS.addListener(ToolClientEvents::handleInput);
     AbstractArmorModel.init();
+    TooltipCache.init();
 
     // keybinds
     event.enqueueWork(() -> {
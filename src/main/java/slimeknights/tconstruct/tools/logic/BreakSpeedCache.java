@@ -0,0 +1,167 @@
+package slimeknights.tconstruct.tools.logic;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.event.entity.player.PlayerEvent.BreakSpeed;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.library.modifiers.Modifier;
+import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHooks;
+import slimeknights.tconstruct.library.modifiers.hook.mining.BreakSpeedModifierHook;
+import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability;
+import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability.ComputableDataKey;
+import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+import slimeknights.tconstruct.library.utils.BlockSideHitListener;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Per player memo of the tool side of {@link ToolEvents#onBreakSpeed(BreakSpeed)}.
+ * The parsed tool is reused while the held tag contents and damage are unchanged, and the result of all hooks before the first dynamic hook
+ * (see {@link BreakSpeedModifierHook#isDynamic(slimeknights.tconstruct.library.tools.nbt.IToolStackView, ModifierEntry)}) is reused while the block, position, and event inputs are unchanged.
+ * Dynamic hooks and everything after them run every tick.
+ */
+class BreakSpeedCache {
+  private static final ComputableDataKey<BreakSpeedCache> KEY = TConstruct.createKey("break_speed_cache", BreakSpeedCache::new);
+
+  /* Tool */
+  @Nullable
+  private Item item;
+  /** Tool tag, compared by identity to quickly detect a new stack */
+  @Nullable
+  private CompoundTag tag;
+  /** Hash of the tool tag contents, as some logic modifies the tag in place */
+  private int tagHash;
+  /** Damage is updated in place, so needs a separate check */
+  private int damage;
+  @Nullable
+  private ToolStack tool;
+  private List<ModifierEntry> modifiers = List.of();
+  /** Index of the first modifier with a dynamic break speed hook */
+  private int firstDynamic;
+
+  /* Block */
+  @Nullable
+  private BlockState state;
+  @Nullable
+  private BlockPos pos;
+  private boolean isEffective;
+
+  /* Static prefix */
+  @Nullable
+  private Direction sideHit;
+  private float originalSpeed;
+  private float miningSpeedModifier;
+  private float inputSpeed;
+  private float outputSpeed;
+  private boolean canceled;
+  /** If false, the static prefix result needs to be recomputed */
+  private boolean prefixValid = false;
+
+  /** Runs all tool break speed hooks for the given player */
+  static void onBreakSpeed(Player player, ItemStack stack, BreakSpeed event) {
+    BreakSpeedCache cache = player.getCapability(TinkerDataCapability.CAPABILITY).map(data -> data.computeIfAbsent(KEY)).orElse(null);
+    if (cache == null) {
+      cache = new BreakSpeedCache();
+    }
+    cache.run(player, stack, event);
+  }
+
+  /** Updates the cached tool if the held stack changed */
+  private void updateTool(ItemStack stack) {
+    CompoundTag tag = stack.getTag();
+    int tagHash = tag == null ? 0 : tag.hashCode();
+    int damage = stack.getDamageValue();
+    if (tool == null || this.item != stack.getItem() || this.tag != tag || this.tagHash != tagHash || this.damage != damage) {
+      this.item = stack.getItem();
+      this.tag = tag;
+      this.tagHash = tagHash;
+      this.damage = damage;
+      this.tool = ToolStack.from(stack);
+      this.modifiers = tool.isBroken() ? List.of() : tool.getModifierList();
+      int size = modifiers.size();
+      firstDynamic = size;
+      for (int i = 0; i < size; i++) {
+        ModifierEntry entry = modifiers.get(i);
+        if (entry.getHook(ModifierHooks.BREAK_SPEED).isDynamic(tool, entry)) {
+          firstDynamic = i;
+          break;
+        }
+      }
+      this.state = null;
+      this.prefixValid = false;
+    }
+  }
+
+  /** Runs all tool break speed hooks */
+  private void run(Player player, ItemStack stack, BreakSpeed event) {
+    updateTool(stack);
+    if (modifiers.isEmpty()) {
+      return;
+    }
+    ToolStack tool = this.tool;
+    assert tool != null;
+
+    // effectiveness only depends on the tool and the block, but a new position still reruns the static hooks
+    BlockState state = event.getState();
+    BlockPos pos = event.getPosition().orElse(null);
+    if (this.state != state || !Objects.equals(this.pos, pos)) {
+      this.state = state;
+      this.pos = pos;
+      this.isEffective = stack.isCorrectToolForDrops(state);
+      this.prefixValid = false;
+    }
+    // modifiers using additive boosts may want info on the original boosts provided
+    float miningSpeedModifier = Modifier.getMiningModifier(player);
+    Direction sideHit = BlockSideHitListener.getSideHit(player);
+    float originalSpeed = event.getOriginalSpeed();
+    float inputSpeed = event.getNewSpeed();
+
+    // static hooks only depend on the tool, block, and event inputs, so reuse the last result if those match
+    if (firstDynamic > 0) {
+      if (prefixValid && this.sideHit == sideHit && this.originalSpeed == originalSpeed && this.inputSpeed == inputSpeed && this.miningSpeedModifier == miningSpeedModifier) {
+        if (canceled) {
+          event.setCanceled(true);
+          return;
+        }
+        event.setNewSpeed(outputSpeed);
+      } else {
+        this.sideHit = sideHit;
+        this.originalSpeed = originalSpeed;
+        this.inputSpeed = inputSpeed;
+        this.miningSpeedModifier = miningSpeedModifier;
+        this.canceled = runHooks(tool, event, sideHit, miningSpeedModifier, 0, firstDynamic);
+        this.outputSpeed = event.getNewSpeed();
+        this.prefixValid = true;
+        if (canceled) {
+          return;
+        }
+      }
+    }
+    // dynamic hooks run every time
+    runHooks(tool, event, sideHit, miningSpeedModifier, firstDynamic, modifiers.size());
+  }
+
+  /**
+   * Runs the break speed hooks for the given range of modifiers
+   * @return  True if the event was canceled
+   */
+  private boolean runHooks(ToolStack tool, BreakSpeed event, Direction sideHit, float miningSpeedModifier, int start, int end) {
+    for (int i = start; i < end; i++) {
+      ModifierEntry entry = modifiers.get(i);
+      entry.getHook(ModifierHooks.BREAK_SPEED).onBreakSpeed(tool, entry, event, sideHit, isEffective, miningSpeedModifier);
+      // if any modifier cancels mining, stop right here
+      if (event.isCanceled()) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
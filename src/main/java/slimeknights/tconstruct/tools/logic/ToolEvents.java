@@ -46,7 +46,6 @@ import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.library.events.TinkerToolEvent.ToolHarvestEvent;
-import slimeknights.tconstruct.library.modifiers.Modifier;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierHooks;
 import slimeknights.tconstruct.library.modifiers.hook.armor.ModifyDamageModifierHook;
@@ -55,7 +54,6 @@ import slimeknights.tconstruct.library.modifiers.hook.armor.ProtectionModifierHo
 import slimeknights.tconstruct.library.modifiers.modules.armor.MobDisguiseModule;
 import slimeknights.tconstruct.library.modifiers.modules.technical.ArmorStatModule;
 import slimeknights.tconstruct.library.tools.capability.EntityModifierCapability;
-import slimeknights.tconstruct.library.tools.capability.PersistentDataCapability;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataKeys;
 import slimeknights.tconstruct.library.tools.context.EquipmentContext;
@@ -68,10 +66,8 @@ import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.library.tools.nbt.ModifierNBT;
 import slimeknights.tconstruct.library.tools.nbt.NamespacedNBT;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
-import slimeknights.tconstruct.library.utils.BlockSideHitListener;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -87,22 +83,10 @@ public class ToolEvents {
     // tool break speed hook
     ItemStack stack = player.getMainHandItem();
     if (stack.is(TinkerTags.Items.HARVEST)) {
-      ToolStack tool = ToolStack.from(stack);
-      if (!tool.isBroken()) {
-        List<ModifierEntry> modifiers = tool.getModifierList();
-        if (!modifiers.isEmpty()) {
-          // modifiers using additive boosts may want info on the original boosts provided
-          float miningSpeedModifier = Modifier.getMiningModifier(player);
-          boolean isEffective = stack.isCorrectToolForDrops(event.getState());
-          Direction direction = BlockSideHitListener.getSideHit(player);
-          for (ModifierEntry entry : tool.getModifierList()) {
-            entry.getHook(ModifierHooks.BREAK_SPEED).onBreakSpeed(tool, entry, event, direction, isEffective, miningSpeedModifier);
-            // if any modifier cancels mining, stop right here
-            if (event.isCanceled()) {
-              return;
-            }
-          }
-        }
+      BreakSpeedCache.onBreakSpeed(player, stack, event);
+      // if any modifier cancels mining, stop right here
+      if (event.isCanceled()) {
+        return;
       }
     }
 
@@ -405,7 +389,7 @@ public class ToolEvents {
     Projectile projectile = event.getProjectile();
     ModifierNBT modifiers = EntityModifierCapability.getOrEmpty(projectile);
     if (!modifiers.isEmpty()) {
-      NamespacedNBT nbt = PersistentDataCapability.getOrWarn(projectile);
+      NamespacedNBT nbt = EntityModifierCapability.getPersistentData(projectile);
       HitResult hit = event.getRayTraceResult();
       HitResult.Type type = hit.getType();
       // extract a firing entity as that is a common need
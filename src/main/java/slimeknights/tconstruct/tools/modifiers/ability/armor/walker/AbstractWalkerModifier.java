@@ -9,6 +9,8 @@ import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierHooks;
 import slimeknights.tconstruct.library.modifiers.hook.armor.ArmorWalkModifierHook;
 import slimeknights.tconstruct.library.modifiers.impl.NoLevelsModifier;
+import slimeknights.tconstruct.library.modifiers.modules.armor.ArmorWalkRadiusModule;
+import slimeknights.tconstruct.library.modifiers.modules.armor.WalkRadiusTracker;
 import slimeknights.tconstruct.library.module.ModuleHookMap.Builder;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 
@@ -27,6 +29,14 @@ public abstract class AbstractWalkerModifier extends NoLevelsModifier implements
    */
   protected abstract void walkOn(IToolStackView tool, int level, LivingEntity living, Level world, BlockPos target, MutableBlockPos mutable);
 
+  /**
+   * If true, a single block step only walks on positions newly entering the radius instead of the full radius.
+   * @see ArmorWalkRadiusModule#isIncremental()
+   */
+  protected boolean isIncremental() {
+    return false;
+  }
+
   @Override
   public void onWalk(IToolStackView tool, ModifierEntry modifier, LivingEntity living, BlockPos prevPos, BlockPos newPos) {
     if (living.isOnGround() && !tool.isBroken() && !living.level.isClientSide) {
@@ -35,13 +45,26 @@ public abstract class AbstractWalkerModifier extends NoLevelsModifier implements
       Level world = living.level;
       Vec3 posVec = living.position();
       BlockPos center = new BlockPos(posVec.x, posVec.y + 0.5, posVec.z);
-      for (BlockPos pos : BlockPos.betweenClosed(center.offset(-radius, 0, -radius), center.offset(radius, 0, radius))) {
-        if (pos.closerToCenterThan(living.position(), radius)) {
-          walkOn(tool, modifier.getLevel(), living, world, pos, mutable);
+      if (isIncremental()) {
+        MutableBlockPos target = new MutableBlockPos();
+        int[] offsets = WalkRadiusTracker.walk(this, living, center, radius);
+        for (int i = 0; i < offsets.length; i += 2) {
+          target.set(center.getX() + offsets[i], center.getY(), center.getZ() + offsets[i + 1]);
+          walkOn(tool, modifier.getLevel(), living, world, target, mutable);
           if (tool.isBroken()) {
+            WalkRadiusTracker.reset(this, living);
             break;
           }
         }
+      } else {
+        for (BlockPos pos : BlockPos.betweenClosed(center.offset(-radius, 0, -radius), center.offset(radius, 0, radius))) {
+          if (pos.closerToCenterThan(living.position(), radius)) {
+            walkOn(tool, modifier.getLevel(), living, world, pos, mutable);
+            if (tool.isBroken()) {
+              break;
+            }
+          }
+        }
       }
     }
   }
@@ -22,7 +22,6 @@ import slimeknights.tconstruct.library.modifiers.hook.interaction.InteractionSou
 import slimeknights.tconstruct.library.modifiers.modules.fluid.TankModule;
 import slimeknights.tconstruct.library.module.ModuleHookMap.Builder;
 import slimeknights.tconstruct.library.tools.capability.EntityModifierCapability;
-import slimeknights.tconstruct.library.tools.capability.PersistentDataCapability;
 import slimeknights.tconstruct.library.tools.helper.ModifierUtil;
 import slimeknights.tconstruct.library.tools.helper.ToolDamageUtil;
 import slimeknights.tconstruct.library.tools.item.ranged.ModifiableLauncherItem;
@@ -112,10 +111,10 @@ public class SpittingModifier extends Modifier implements GeneralInteractionModi
                 spit.shoot(targetVector.x(), targetVector.y(), targetVector.z(), velocity, inaccuracy);
 
                 // store all modifiers on the spit
-                spit.getCapability(EntityModifierCapability.CAPABILITY).ifPresent(cap -> cap.setModifiers(tool.getModifiers()));
+                EntityModifierCapability.setModifiers(spit, tool.getModifiers());
 
                 // fetch the persistent data for the arrow as modifiers may want to store data
-                NamespacedNBT arrowData = PersistentDataCapability.getOrWarn(spit);
+                NamespacedNBT arrowData = EntityModifierCapability.getPersistentData(spit);
                 // let modifiers set properties
                 for (ModifierEntry entry : tool.getModifierList()) {
                   entry.getHook(ModifierHooks.PROJECTILE_LAUNCH).onProjectileLaunch(tool, entry, entity, spit, null, arrowData, shotIndex == primaryIndex);
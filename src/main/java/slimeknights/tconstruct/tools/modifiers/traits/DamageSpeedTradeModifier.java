@@ -87,4 +87,10 @@ public class DamageSpeedTradeModifier extends Modifier implements AttributesModi
       event.setNewSpeed((float)(event.getNewSpeed() * (1 - getMultiplier(tool, modifier.getLevel()))));
     }
   }
+
+  @Override
+  public boolean isDynamic(IToolStackView tool, ModifierEntry modifier) {
+    // only depends on tool damage
+    return false;
+  }
 }
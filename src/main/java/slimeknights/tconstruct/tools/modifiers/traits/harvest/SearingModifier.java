@@ -71,6 +71,12 @@ public class SearingModifier extends Modifier implements BreakSpeedModifierHook,
     }
   }
 
+  @Override
+  public boolean isDynamic(IToolStackView tool, ModifierEntry modifier) {
+    // only depends on the block
+    return false;
+  }
+
   @Override
   public void addTooltip(IToolStackView tool, ModifierEntry modifier, @Nullable Player player, List<Component> tooltip, TooltipKey tooltipKey, TooltipFlag tooltipFlag) {
     TooltipModifierHook.addStatBoost(tool, this, ToolStats.MINING_SPEED, TinkerTags.Items.HARVEST, 7 * modifier.getLevel(), tooltip);
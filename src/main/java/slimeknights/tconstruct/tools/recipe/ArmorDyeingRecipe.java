@@ -70,6 +70,16 @@ public class ArmorDyeingRecipe implements ITinkerStationRecipe, IMultiRecipe<IDi
     return found;
   }
 
+  @Override
+  public Ingredient getToolFilter() {
+    return toolRequirement;
+  }
+
+  @Override
+  public Ingredient getInputFilter() {
+    return Ingredient.of(Items.DYES);
+  }
+
   @Override
   public ItemStack assemble(ITinkerStationContainer inv) {
     ItemStack tinkerable = inv.getTinkerableStack();
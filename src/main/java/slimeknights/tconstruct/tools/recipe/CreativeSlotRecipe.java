@@ -6,6 +6,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.level.Level;
 import slimeknights.tconstruct.common.TinkerTags;
@@ -70,6 +71,11 @@ public class CreativeSlotRecipe implements ITinkerStationRecipe, IModifierRecipe
     return findSlotType(inv, false) != null;
   }
 
+  @Override
+  public Ingredient getToolFilter() {
+    return Ingredient.of(TinkerTags.Items.MODIFIABLE);
+  }
+
   @Override
   public int shrinkToolSlotBy() {
     return 64;
@@ -37,7 +37,8 @@ public class BuddingCrystalBlock extends CrystalBlock {
       Block block = null;
       if (BuddingAmethystBlock.canClusterGrowAtState(blockstate)) {
         block = geode.getBud(BudSize.SMALL);
-      } else {
+      } else if (blockstate.getBlock() instanceof CrystalClusterBlock) {
+        // most neighbors are crystal blocks or other budding blocks, skip looking up each bud for those
         for (BudSize size : BudSize.SIZES) {
           if (blockstate.is(geode.getBud(size))) {
             block = geode.getBud(size.getNext());
@@ -20,12 +20,34 @@ import net.minecraft.world.level.block.SnowLayerBlock;
 import net.minecraft.world.level.block.SnowyDirtBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.lighting.LayerLightEngine;
+import net.minecraftforge.common.util.Lazy;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.world.TinkerWorld;
 
 import javax.annotation.Nullable;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 public class SlimeGrassBlock extends SnowyDirtBlock implements BonemealableBlock {
+  /** Lookup from dirt block to dirt type, saves looping over all dirt types on every spread attempt */
+  private static final Lazy<Map<Block,DirtType>> DIRT_TYPES = Lazy.concurrentOf(() -> {
+    Map<Block,DirtType> map = new IdentityHashMap<>();
+    for (DirtType type : DirtType.values()) {
+      map.put(TinkerWorld.allDirt.get(type), type);
+    }
+    return map;
+  });
+  /** Lookup from grass block to dirt type */
+  private static final Lazy<Map<Block,DirtType>> GRASS_TYPES = Lazy.concurrentOf(() -> {
+    Map<Block,DirtType> map = new IdentityHashMap<>();
+    for (DirtType type : DirtType.values()) {
+      for (Block grass : TinkerWorld.slimeGrass.get(type).values()) {
+        map.put(grass, type);
+      }
+    }
+    return map;
+  });
+
   @Getter
   private final FoliageType foliageType;
   public SlimeGrassBlock(Properties properties, FoliageType foliageType) {
@@ -126,13 +148,33 @@ public class SlimeGrassBlock extends SnowyDirtBlock implements BonemealableBlock
     // if this is no longer valid grass, destroy
     if (!isValidPos(state, world, pos)) {
       world.setBlockAndUpdate(pos, getDirtState(state));
-    } else if (world.getMaxLocalRawBrightness(pos.above()) >= 9) {
+    } else {
       // otherwise, attempt spreading
+      // find targets before checking light, as grass surrounded by grass or stone has nothing to spread to and the light check is the expensive part
+      BlockPos[] targets = null;
+      BlockState[] targetStates = null;
       for (int i = 0; i < 4; ++i) {
         BlockPos newGrass = pos.offset(random.nextInt(3) - 1, random.nextInt(5) - 3, random.nextInt(3) - 1);
         BlockState newState = getStateFromDirt(world.getBlockState(newGrass), foliageType);
-        if (newState != null && canSpread(newState, world, newGrass)) {
-          world.setBlockAndUpdate(newGrass, newState.setValue(SNOWY, world.getBlockState(newGrass.above()).is(Blocks.SNOW)));
+        if (newState != null) {
+          if (targets == null) {
+            targets = new BlockPos[4];
+            targetStates = new BlockState[4];
+          }
+          targets[i] = newGrass;
+          targetStates[i] = newState;
+        }
+      }
+      if (targets != null && world.getMaxLocalRawBrightness(pos.above()) >= 9) {
+        for (int i = 0; i < 4; ++i) {
+          BlockPos newGrass = targets[i];
+          if (newGrass != null) {
+            // earlier spreads cannot change the target, they only convert dirt to grass at a different position or the same position to the same state
+            BlockState newState = targetStates[i];
+            if (canSpread(newState, world, newGrass)) {
+              world.setBlockAndUpdate(newGrass, newState.setValue(SNOWY, world.getBlockState(newGrass.above()).is(Blocks.SNOW)));
+            }
+          }
         }
       }
     }
@@ -169,11 +211,9 @@ public class SlimeGrassBlock extends SnowyDirtBlock implements BonemealableBlock
    * @return Dirt state
    */
   public static BlockState getDirtState(BlockState grassState) {
-    Block block = grassState.getBlock();
-    for (DirtType type : DirtType.values()) {
-      if (TinkerWorld.slimeGrass.get(type).contains(block)) {
-        return TinkerWorld.allDirt.get(type).defaultBlockState();
-      }
+    DirtType type = GRASS_TYPES.get().get(grassState.getBlock());
+    if (type != null) {
+      return TinkerWorld.allDirt.get(type).defaultBlockState();
     }
     // includes vanilla slime grass
     return Blocks.DIRT.defaultBlockState();
@@ -186,11 +226,9 @@ public class SlimeGrassBlock extends SnowyDirtBlock implements BonemealableBlock
    */
   @Nullable
   public static BlockState getStateFromDirt(BlockState dirtState, FoliageType foliageType) {
-    Block block = dirtState.getBlock();
-    for (DirtType type : DirtType.values()) {
-      if (TinkerWorld.allDirt.get(type) == block) {
-        return TinkerWorld.slimeGrass.get(type).get(foliageType).defaultBlockState();
-      }
+    DirtType type = DIRT_TYPES.get().get(dirtState.getBlock());
+    if (type != null) {
+      return TinkerWorld.slimeGrass.get(type).get(foliageType).defaultBlockState();
     }
     return null;
   }
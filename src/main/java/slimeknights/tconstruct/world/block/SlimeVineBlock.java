@@ -44,6 +44,12 @@ public class SlimeVineBlock extends VineBlock {
     builder.add(STAGE);
   }
 
+  @Override
+  public boolean isRandomlyTicking(BlockState state) {
+    // fully grown vines never change on random tick, skipping them lets chunk sections containing only end vines skip random ticks entirely
+    return hasNoHorizontalSides(state) || state.getValue(STAGE) != VineStage.END;
+  }
+
   @Override
   public void randomTick(BlockState state, ServerLevel worldIn, BlockPos pos, RandomSource random) {
     if (worldIn.isClientSide) {
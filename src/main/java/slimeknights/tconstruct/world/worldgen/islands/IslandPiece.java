@@ -113,11 +113,17 @@ public class IslandPiece extends TemplateStructurePiece {
   }
 
   private static void placeVine(LevelAccessor worldIn, BlockPos pos, RandomSource random, BlockState vineToPlace) {
+    // each valid side replaces the previous placement, so only the last valid side needs to be placed
+    Direction side = null;
+    BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
     for (Direction direction : Direction.values()) {
-      if (direction != Direction.DOWN && SlimeVineBlock.isAcceptableNeighbour(worldIn, pos.relative(direction), direction)) {
-        worldIn.setBlock(pos, vineToPlace.setValue(SlimeVineBlock.getPropertyForFace(direction), Boolean.TRUE), 2);
+      if (direction != Direction.DOWN && SlimeVineBlock.isAcceptableNeighbour(worldIn, mutable.setWithOffset(pos, direction), direction)) {
+        side = direction;
       }
     }
+    if (side != null) {
+      worldIn.setBlock(pos, vineToPlace.setValue(SlimeVineBlock.getPropertyForFace(side), Boolean.TRUE), 2);
+    }
 
     // grow the vine a few times to start
     BlockPos vinePos = pos;
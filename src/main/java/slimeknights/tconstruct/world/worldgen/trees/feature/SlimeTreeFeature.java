@@ -1,8 +1,10 @@
 package slimeknights.tconstruct.world.worldgen.trees.feature;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.mojang.serialization.Codec;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.tags.BlockTags;
@@ -27,10 +29,10 @@ import net.minecraft.world.phys.shapes.DiscreteVoxelShape;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.world.worldgen.trees.config.SlimeTreeConfig;
 
-import java.util.List;
 import java.util.Set;
 
 public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
+  private static final Direction[] DIRECTIONS = Direction.values();
 
   public SlimeTreeFeature(Codec<SlimeTreeConfig> codec) {
     super(codec);
@@ -279,10 +281,11 @@ public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
   }
 
   private DiscreteVoxelShape updateLeaves(LevelAccessor world, BoundingBox boundingBox, Set<BlockPos> logs, Set<BlockPos> leaves) {
-    List<Set<BlockPos>> distanceList = Lists.newArrayList();
     DiscreteVoxelShape shapePart = new BitSetDiscreteVoxelShape(boundingBox.getXSpan(), boundingBox.getYSpan(), boundingBox.getZSpan());
-    for (int j = 0; j < 6; ++j) {
-      distanceList.add(Sets.newHashSet());
+    // positions are packed into longs so the search does not allocate a block pos per visited leaf
+    LongSet logPositions = new LongOpenHashSet(logs.size());
+    for (BlockPos logPos : logs) {
+      logPositions.add(logPos.asLong());
     }
 
     BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
@@ -293,16 +296,18 @@ public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
       //}
     //}
 
-    for (BlockPos logPos : Lists.newArrayList(logs)) {
+    LongSet current = new LongOpenHashSet();
+    for (BlockPos logPos : logs) {
       //if (boundingBox.isInside(logPos)) {
         //TODO shapePart.setFull(logPos.getX() - boundingBox.minX(), logPos.getY() - boundingBox.minY(), logPos.getZ() - boundingBox.minZ(), true, true);
       //}
-      for (Direction direction : Direction.values()) {
+      for (Direction direction : DIRECTIONS) {
         mutable.setWithOffset(logPos, direction);
-        if (!logs.contains(mutable)) {
+        long packed = mutable.asLong();
+        if (!logPositions.contains(packed)) {
           BlockState blockstate = world.getBlockState(mutable);
           if (blockstate.hasProperty(BlockStateProperties.DISTANCE)) {
-            distanceList.get(0).add(mutable.immutable());
+            current.add(packed);
             setBlockStateAt(world, mutable, blockstate.setValue(BlockStateProperties.DISTANCE, 1));
             //if (boundingBox.isInside(mutable)) {
               //TODO shapePart.setFull(mutable.getX() - boundingBox.minX(), mutable.getY() - boundingBox.minY(), mutable.getZ() - boundingBox.minZ(), true, true);
@@ -312,18 +317,20 @@ public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
       }
     }
 
-    for (int distance = 1; distance < 6; ++distance) {
-      Set<BlockPos> current = distanceList.get(distance - 1);
-      Set<BlockPos> next = distanceList.get(distance);
-
-      for (BlockPos pos : current) {
+    // each pass only needs the previous distance, so swap two sets instead of keeping one per distance
+    LongSet next = new LongOpenHashSet();
+    for (int distance = 1; distance < 6 && !current.isEmpty(); ++distance) {
+      LongIterator iterator = current.iterator();
+      while (iterator.hasNext()) {
+        long pos = iterator.nextLong();
         //if (boundingBox.isInside(pos)) {
           //TODO shapePart.setFull(pos.getX() - boundingBox.minX(), pos.getY() - boundingBox.minY(), pos.getZ() - boundingBox.minZ(), true, true);
         //}
 
-        for (Direction direction : Direction.values()) {
-          mutable.setWithOffset(pos, direction);
-          if (!current.contains(mutable) && !next.contains(mutable)) {
+        for (Direction direction : DIRECTIONS) {
+          mutable.set(pos).move(direction);
+          long packed = mutable.asLong();
+          if (!current.contains(packed) && !next.contains(packed)) {
             BlockState state = world.getBlockState(mutable);
             if (state.hasProperty(BlockStateProperties.DISTANCE)) {
               int stateDistance = state.getValue(BlockStateProperties.DISTANCE);
@@ -333,12 +340,16 @@ public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
                 //if (boundingBox.isInside(mutable)) {
                   //TODO shapePart.setFull(mutable.getX() - boundingBox.minX(), mutable.getY() - boundingBox.minY(), mutable.getZ() - boundingBox.minZ(), true, true);
                 //}
-                next.add(mutable.immutable());
+                next.add(packed);
               }
             }
           }
         }
       }
+      LongSet swap = current;
+      current = next;
+      next = swap;
+      next.clear();
     }
 
     return shapePart;
@@ -0,0 +1,69 @@
+package slimeknights.tconstruct.library.json.variable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VariableCacheTest extends BaseMcTest {
+  private static final BlockPos POS = new BlockPos(1, 2, 3);
+
+  @BeforeEach
+  void reset() {
+    VariableCache.resetStats();
+  }
+
+  @Test
+  void getValue_sameTick_reusesValue() {
+    Level level = mock(Level.class);
+    when(level.getGameTime()).thenReturn(10L);
+    AtomicInteger calls = new AtomicInteger();
+    Object variable = new Object();
+
+    assertThat(VariableCache.getValue(variable, level, POS, pos -> calls.incrementAndGet())).isEqualTo(1);
+    assertThat(VariableCache.getValue(variable, level, POS, pos -> calls.incrementAndGet())).isEqualTo(1);
+    assertThat(calls).hasValue(1);
+    assertThat(VariableCache.getHits()).isEqualTo(1);
+    assertThat(VariableCache.getMisses()).isEqualTo(1);
+    assertThat(VariableCache.getHitRate()).isEqualTo(0.5f);
+
+    // other positions and variables are computed separately
+    VariableCache.getValue(variable, level, POS.above(), pos -> calls.incrementAndGet());
+    VariableCache.getValue(new Object(), level, POS, pos -> calls.incrementAndGet());
+    assertThat(calls).hasValue(3);
+  }
+
+  @Test
+  void getValue_tickChange_recomputes() {
+    Level level = mock(Level.class);
+    when(level.getGameTime()).thenReturn(10L);
+    AtomicInteger calls = new AtomicInteger();
+    Object variable = new Object();
+
+    VariableCache.getValue(variable, level, POS, pos -> calls.incrementAndGet());
+    when(level.getGameTime()).thenReturn(11L);
+    assertThat(VariableCache.getValue(variable, level, POS, pos -> calls.incrementAndGet())).isEqualTo(2);
+
+    // so does a level change
+    Level other = mock(Level.class);
+    when(other.getGameTime()).thenReturn(11L);
+    assertThat(VariableCache.getValue(variable, other, POS, pos -> calls.incrementAndGet())).isEqualTo(3);
+    assertThat(VariableCache.getHits()).isZero();
+    assertThat(VariableCache.getMisses()).isEqualTo(3);
+  }
+
+  @Test
+  void resetStats_clearsCounters() {
+    VariableCache.getValue(new Object(), mock(Level.class), POS, pos -> 0);
+    VariableCache.resetStats();
+    assertThat(VariableCache.getMisses()).isZero();
+    assertThat(VariableCache.getHitRate()).isZero();
+  }
+}
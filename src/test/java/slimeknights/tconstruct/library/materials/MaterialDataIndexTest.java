@@ -0,0 +1,79 @@
+package slimeknights.tconstruct.library.materials;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.fixture.MaterialFixture;
+import slimeknights.tconstruct.fixture.MaterialStatsFixture;
+import slimeknights.tconstruct.library.materials.definition.IMaterial;
+import slimeknights.tconstruct.library.materials.definition.MaterialId;
+import slimeknights.tconstruct.library.materials.stats.IMaterialStats;
+import slimeknights.tconstruct.library.materials.stats.MaterialStatsManager;
+import slimeknights.tconstruct.library.materials.traits.MaterialTraits;
+import slimeknights.tconstruct.library.materials.traits.MaterialTraitsManager;
+import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierFixture;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MaterialDataIndexTest extends BaseMcTest {
+  private static final MaterialId MISSING = new MaterialId("test", "missing");
+
+  private static MaterialDataIndex index;
+
+  @BeforeAll
+  static void beforeAll() {
+    ModifierFixture.init();
+    MaterialStatsManager statsManager = new MaterialStatsManager(() -> {});
+    statsManager.updateMaterialStatsFromServer(Map.<MaterialId,Collection<IMaterialStats>>of(
+      MaterialFixture.MATERIAL_1.getIdentifier(), List.of(MaterialStatsFixture.MATERIAL_STATS),
+      MaterialFixture.MATERIAL_2.getIdentifier(), List.of(MaterialStatsFixture.MATERIAL_STATS_2)));
+    MaterialTraitsManager traitsManager = new MaterialTraitsManager(() -> {});
+    traitsManager.updateFromServer(Map.of(MaterialFixture.MATERIAL_1.getIdentifier(), new MaterialTraits(
+      List.of(new ModifierEntry(ModifierFixture.TEST_MODIFIER_1, 1)),
+      Map.of(MaterialStatsFixture.STATS_TYPE_2, List.of(new ModifierEntry(ModifierFixture.TEST_MODIFIER_2, 2))))));
+    index = MaterialDataIndex.build(1, List.<IMaterial>of(MaterialFixture.MATERIAL_1, MaterialFixture.MATERIAL_2), statsManager, traitsManager);
+  }
+
+  @Test
+  void version() {
+    assertThat(index.getVersion()).isEqualTo(1);
+  }
+
+  @Test
+  void getStats_present() {
+    assertThat(index.getStats(MaterialFixture.MATERIAL_1.getIdentifier(), MaterialStatsFixture.STATS_TYPE)).contains(MaterialStatsFixture.MATERIAL_STATS);
+    assertThat(index.getStats(MaterialFixture.MATERIAL_2.getIdentifier(), MaterialStatsFixture.STATS_TYPE_2)).contains(MaterialStatsFixture.MATERIAL_STATS_2);
+  }
+
+  @Test
+  void getStats_missingStatForMaterial() {
+    assertThat(index.getStats(MaterialFixture.MATERIAL_1.getIdentifier(), MaterialStatsFixture.STATS_TYPE_2)).isEmpty();
+  }
+
+  @Test
+  void getStats_notIndexed() {
+    assertThat(index.<IMaterialStats>getStats(MISSING, MaterialStatsFixture.STATS_TYPE)).isNull();
+    assertThat(index.<IMaterialStats>getStats(MaterialFixture.MATERIAL_1.getIdentifier(), MaterialStatsFixture.STATS_TYPE_3)).isNull();
+  }
+
+  @Test
+  void getTraits_defaultAndUnique() {
+    List<ModifierEntry> defaults = index.getTraits(MaterialFixture.MATERIAL_1.getIdentifier(), MaterialStatsFixture.STATS_TYPE);
+    assertThat(defaults).hasSize(1);
+    assertThat(defaults.get(0).getModifier()).isEqualTo(ModifierFixture.TEST_MODIFIER_1);
+    List<ModifierEntry> unique = index.getTraits(MaterialFixture.MATERIAL_1.getIdentifier(), MaterialStatsFixture.STATS_TYPE_2);
+    assertThat(unique).hasSize(1);
+    assertThat(unique.get(0).getModifier()).isEqualTo(ModifierFixture.TEST_MODIFIER_2);
+  }
+
+  @Test
+  void getTraits_materialWithoutTraits() {
+    assertThat(index.getTraits(MaterialFixture.MATERIAL_2.getIdentifier(), MaterialStatsFixture.STATS_TYPE)).isEmpty();
+    assertThat(index.getTraits(MISSING, MaterialStatsFixture.STATS_TYPE)).isNull();
+  }
+}
@@ -0,0 +1,129 @@
+package slimeknights.tconstruct.library.materials;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import slimeknights.mantle.data.registry.IdAwareComponentRegistry;
+import slimeknights.mantle.network.packet.ISimplePacket;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.fixture.MaterialStatsFixture;
+import slimeknights.tconstruct.library.materials.definition.IMaterial;
+import slimeknights.tconstruct.library.materials.definition.Material;
+import slimeknights.tconstruct.library.materials.definition.MaterialId;
+import slimeknights.tconstruct.library.materials.definition.UpdateMaterialsPacket;
+import slimeknights.tconstruct.library.materials.stats.IMaterialStats;
+import slimeknights.tconstruct.library.materials.stats.MaterialStatType;
+import slimeknights.tconstruct.library.materials.stats.UpdateMaterialStatsPacket;
+import slimeknights.tconstruct.library.materials.traits.MaterialTraits;
+import slimeknights.tconstruct.library.materials.traits.UpdateMaterialTraitsPacket;
+import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierFixture;
+import slimeknights.tconstruct.test.BaseMcTest;
+import slimeknights.tconstruct.tools.stats.HandleMaterialStats;
+import slimeknights.tconstruct.tools.stats.HeadMaterialStats;
+import slimeknights.tconstruct.tools.stats.StatlessMaterialStats;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures encoding and decoding the material sync packets for a large pack, built on the same data as the packet round trip tests.
+ * Skipped unless run with {@code -Dtconstruct.benchmark=true}. Each benchmark also checks the decoded packet matches the encoded data.
+ */
+@EnabledIfSystemProperty(named = "tconstruct.benchmark", matches = "true")
+class MaterialPacketBenchmarkTest extends BaseMcTest {
+  /** Number of materials in the simulated pack */
+  private static final int MATERIALS = 1000;
+  /** Number of timed round trips */
+  private static final int ITERATIONS = 200;
+  private static final IdAwareComponentRegistry<MaterialStatType<?>> STAT_LOADER = new IdAwareComponentRegistry<>("Unknown stat type");
+
+  private static final Map<MaterialId,IMaterial> materials = new LinkedHashMap<>();
+  private static final Map<MaterialId,Collection<IMaterialStats>> stats = new LinkedHashMap<>();
+  private static final Map<MaterialId,MaterialTraits> traits = new LinkedHashMap<>();
+
+  @BeforeAll
+  static void setup() {
+    ModifierFixture.init();
+    STAT_LOADER.register(HeadMaterialStats.TYPE);
+    STAT_LOADER.register(HandleMaterialStats.TYPE);
+    STAT_LOADER.register(StatlessMaterialStats.BINDING.getType());
+    List<IMaterialStats> statList = MaterialStatsFixture.TIC_DEFAULT_STATS;
+    for (int i = 0; i < MATERIALS; i++) {
+      MaterialId id = new MaterialId("test", "material_" + i);
+      materials.put(id, new Material(id, i % 4, i, true, false));
+      stats.put(id, statList);
+      traits.put(id, new MaterialTraits(
+        List.of(new ModifierEntry(ModifierFixture.TEST_MODIFIER_1, 1)),
+        Map.of(HeadMaterialStats.ID, List.of(new ModifierEntry(ModifierFixture.TEST_MODIFIER_2, 1 + i % 3)),
+               HandleMaterialStats.ID, List.of(new ModifierEntry(ModifierFixture.TEST_MODIFIER_1, 2), new ModifierEntry(ModifierFixture.TEST_MODIFIER_2, 1)))));
+    }
+  }
+
+  /** Runs encode and decode for the packet, logging the time and size */
+  private static <T extends ISimplePacket> T run(String name, T packet, Function<FriendlyByteBuf,T> decoder) {
+    T decoded = null;
+    int bytes = 0;
+    long encodeNanos = 0;
+    long decodeNanos = 0;
+    // first half warms up
+    for (int i = 0; i < ITERATIONS * 2; i++) {
+      FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+      long start = System.nanoTime();
+      packet.encode(buffer);
+      long encoded = System.nanoTime();
+      decoded = decoder.apply(buffer);
+      long end = System.nanoTime();
+      if (i >= ITERATIONS) {
+        encodeNanos += encoded - start;
+        decodeNanos += end - encoded;
+      }
+      bytes = buffer.writerIndex();
+      buffer.release();
+    }
+    TConstruct.LOG.info("Packet benchmark {}: {} bytes, {} us encode, {} us decode", name, bytes,
+                        String.format("%.1f", encodeNanos / 1000d / ITERATIONS), String.format("%.1f", decodeNanos / 1000d / ITERATIONS));
+    return decoded;
+  }
+
+  @Test
+  void materials() {
+    UpdateMaterialsPacket decoded = run("materials", new UpdateMaterialsPacket(materials, Map.of(), Map.of()), UpdateMaterialsPacket::new);
+    assertThat(decoded.getMaterials()).hasSize(MATERIALS);
+    materials.forEach((id, material) -> {
+      IMaterial result = decoded.getMaterials().get(id);
+      assertThat(result).isNotNull();
+      assertThat(result.getTier()).isEqualTo(material.getTier());
+      assertThat(result.getSortOrder()).isEqualTo(material.getSortOrder());
+      assertThat(result.isCraftable()).isEqualTo(material.isCraftable());
+      assertThat(result.isHidden()).isEqualTo(material.isHidden());
+    });
+  }
+
+  @Test
+  void stats() {
+    UpdateMaterialStatsPacket decoded = run("stats", new UpdateMaterialStatsPacket(stats), buffer -> new UpdateMaterialStatsPacket(buffer, STAT_LOADER));
+    assertThat(decoded.getMaterialToStats()).hasSize(MATERIALS);
+    stats.forEach((id, list) -> assertThat(decoded.getMaterialToStats().get(id)).containsExactlyElementsOf(list));
+  }
+
+  @Test
+  void traits() {
+    UpdateMaterialTraitsPacket decoded = run("traits", new UpdateMaterialTraitsPacket(traits), UpdateMaterialTraitsPacket::new);
+    assertThat(decoded.getMaterialToTraits()).hasSize(MATERIALS);
+    traits.forEach((id, expected) -> {
+      MaterialTraits result = decoded.getMaterialToTraits().get(id);
+      assertThat(result).isNotNull();
+      assertThat(result.getDefaultTraits()).isEqualTo(expected.getDefaultTraits());
+      assertThat(result.getTraits(HeadMaterialStats.ID)).isEqualTo(expected.getTraits(HeadMaterialStats.ID));
+      assertThat(result.getTraits(HandleMaterialStats.ID)).isEqualTo(expected.getTraits(HandleMaterialStats.ID));
+    });
+  }
+}
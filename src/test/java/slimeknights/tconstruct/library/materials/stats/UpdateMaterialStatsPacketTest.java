@@ -1,6 +1,7 @@
 package slimeknights.tconstruct.library.materials.stats;
 
 import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
 import net.minecraft.network.FriendlyByteBuf;
 import org.junit.jupiter.api.Test;
 import slimeknights.mantle.data.registry.IdAwareComponentRegistry;
@@ -17,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class UpdateMaterialStatsPacketTest extends BaseMcTest {
 
@@ -63,6 +65,14 @@ class UpdateMaterialStatsPacketTest extends BaseMcTest {
     assertThat(packet.materialToStats.get(MATERIAL_ID)).isEqualTo(stats);
   }
 
+  @Test
+  void decode_unknownStatType_throws() {
+    // bowstring is not registered in the loader, so the decoder cannot tell how long its stats are
+    Map<MaterialId, Collection<IMaterialStats>> materialToStats = Map.of(MATERIAL_ID, List.of(StatlessMaterialStats.BOWSTRING));
+
+    assertThatThrownBy(() -> sendAndReceivePacket(materialToStats)).isInstanceOf(DecoderException.class);
+  }
+
   private UpdateMaterialStatsPacket sendAndReceivePacket(Map<MaterialId, Collection<IMaterialStats>> materialToStats) {
     FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
 
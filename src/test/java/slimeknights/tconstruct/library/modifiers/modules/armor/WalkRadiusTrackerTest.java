@@ -0,0 +1,144 @@
+package slimeknights.tconstruct.library.modifiers.modules.armor;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class WalkRadiusTrackerTest extends BaseMcTest {
+  private static final float[] RADII = { 0.5f, 1.5f, 2, 2.5f, 7.5f, 16 };
+  private static final float RADIUS = 2.5f;
+
+  /** Converts the offsets into a set of X and Z pairs */
+  private static Set<Long> toSet(int[] offsets, int shiftX, int shiftZ) {
+    Set<Long> set = new HashSet<>();
+    for (int i = 0; i < offsets.length; i += 2) {
+      set.add(((long)(offsets[i] + shiftX) << 32) | ((offsets[i + 1] + shiftZ) & 0xFFFFFFFFL));
+    }
+    return set;
+  }
+
+  /** Creates a mock entity in the given level */
+  private static LivingEntity entity(Level level) {
+    LivingEntity living = mock(LivingEntity.class);
+    living.level = level;
+    return living;
+  }
+
+  @Test
+  void disk_matchesFullScanFromBlockCenter() {
+    for (float radius : RADII) {
+      Set<Long> disk = toSet(WalkRadiusTracker.getOffsets(radius, 0, 0), 0, 0);
+      // full scan for an entity standing in the middle of the block at the origin
+      Vec3 position = new Vec3(0.5, 0, 0.5);
+      int size = Mth.ceil(radius);
+      Set<Long> expected = new HashSet<>();
+      for (int x = -size; x <= size; x++) {
+        for (int z = -size; z <= size; z++) {
+          if (new BlockPos(x, 0, z).closerToCenterThan(position, radius)) {
+            expected.add(((long)x << 32) | (z & 0xFFFFFFFFL));
+          }
+        }
+      }
+      assertThat(disk).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void crescent_coversNewDisk() {
+    for (float radius : RADII) {
+      Set<Long> disk = toSet(WalkRadiusTracker.getOffsets(radius, 0, 0), 0, 0);
+      for (int dx = -1; dx <= 1; dx++) {
+        for (int dz = -1; dz <= 1; dz++) {
+          if (dx == 0 && dz == 0) {
+            continue;
+          }
+          // previous disk relative to the new center, plus the crescent, should be a superset of the new disk
+          Set<Long> crescent = toSet(WalkRadiusTracker.getOffsets(radius, dx, dz), 0, 0);
+          Set<Long> covered = toSet(WalkRadiusTracker.getOffsets(radius, 0, 0), -dx, -dz);
+          covered.addAll(crescent);
+          assertThat(covered).containsAll(disk);
+          // crescent never repeats a position from the previous disk
+          Set<Long> previous = toSet(WalkRadiusTracker.getOffsets(radius, 0, 0), -dx, -dz);
+          assertThat(crescent).doesNotContainAnyElementsOf(previous);
+          assertThat(disk).containsAll(crescent);
+        }
+      }
+    }
+  }
+
+  @Test
+  void walk_singleStep_returnsCrescent() {
+    Object walker = new Object();
+    LivingEntity living = entity(mock(Level.class));
+    BlockPos start = new BlockPos(10, 64, 10);
+
+    assertThat(WalkRadiusTracker.walk(walker, living, start, RADIUS)).isEqualTo(WalkRadiusTracker.getOffsets(RADIUS, 0, 0));
+    assertThat(WalkRadiusTracker.walk(walker, living, start, RADIUS)).isEmpty();
+    assertThat(WalkRadiusTracker.walk(walker, living, start.east(), RADIUS)).isEqualTo(WalkRadiusTracker.getOffsets(RADIUS, 1, 0));
+    assertThat(WalkRadiusTracker.walk(walker, living, start.east().north(), RADIUS)).isEqualTo(WalkRadiusTracker.getOffsets(RADIUS, 0, -1));
+  }
+
+  @Test
+  void walk_multipleBlocks_returnsFullDisk() {
+    Object walker = new Object();
+    LivingEntity living = entity(mock(Level.class));
+    BlockPos start = new BlockPos(10, 64, 10);
+    int[] disk = WalkRadiusTracker.getOffsets(RADIUS, 0, 0);
+
+    WalkRadiusTracker.walk(walker, living, start, RADIUS);
+    assertThat(WalkRadiusTracker.walk(walker, living, start.east(2), RADIUS)).isEqualTo(disk);
+    // vertical moves change the walked layer
+    assertThat(WalkRadiusTracker.walk(walker, living, start.east(2).above(), RADIUS)).isEqualTo(disk);
+    // so do radius changes
+    assertThat(WalkRadiusTracker.walk(walker, living, start.east(3).above(), 3.5f)).isEqualTo(WalkRadiusTracker.getOffsets(3.5f, 0, 0));
+  }
+
+  @Test
+  void walk_teleport_returnsFullDisk() {
+    Object walker = new Object();
+    Level level = mock(Level.class);
+    LivingEntity living = entity(level);
+    BlockPos start = new BlockPos(10, 64, 10);
+    int[] disk = WalkRadiusTracker.getOffsets(RADIUS, 0, 0);
+
+    WalkRadiusTracker.walk(walker, living, start, RADIUS);
+    assertThat(WalkRadiusTracker.walk(walker, living, start.offset(500, 0, -500), RADIUS)).isEqualTo(disk);
+
+    // a single step into another level is still a teleport
+    living.level = mock(Level.class);
+    assertThat(WalkRadiusTracker.walk(walker, living, start.offset(501, 0, -500), RADIUS)).isEqualTo(disk);
+  }
+
+  @Test
+  void walk_reset_returnsFullDisk() {
+    Object walker = new Object();
+    LivingEntity living = entity(mock(Level.class));
+    BlockPos start = new BlockPos(10, 64, 10);
+
+    WalkRadiusTracker.walk(walker, living, start, RADIUS);
+    WalkRadiusTracker.reset(walker, living);
+    assertThat(WalkRadiusTracker.walk(walker, living, start.east(), RADIUS)).isEqualTo(WalkRadiusTracker.getOffsets(RADIUS, 0, 0));
+  }
+
+  @Test
+  void walk_separateWalkers_trackedIndependently() {
+    Object first = new Object();
+    Object second = new Object();
+    LivingEntity living = entity(mock(Level.class));
+    BlockPos start = new BlockPos(10, 64, 10);
+
+    WalkRadiusTracker.walk(first, living, start, RADIUS);
+    assertThat(WalkRadiusTracker.walk(second, living, start.east(), RADIUS)).isEqualTo(WalkRadiusTracker.getOffsets(RADIUS, 0, 0));
+    assertThat(WalkRadiusTracker.walk(first, living, start.east(), RADIUS)).isEqualTo(WalkRadiusTracker.getOffsets(RADIUS, 1, 0));
+  }
+}
@@ -0,0 +1,43 @@
+package slimeknights.tconstruct.library.recipe.entitymelting;
+
+import net.minecraft.world.entity.EntityType;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EntityMeltingRecipeCacheTest extends BaseMcTest {
+  /** Creates a recipe matching the given types */
+  private static EntityMeltingRecipe recipe(EntityType<?>... types) {
+    EntityMeltingRecipe recipe = mock(EntityMeltingRecipe.class);
+    for (EntityType<?> type : types) {
+      when(recipe.matches(type)).thenReturn(true);
+    }
+    return recipe;
+  }
+
+  @Test
+  void buildTable_firstMatchWins() {
+    EntityMeltingRecipe pigAndCow = recipe(EntityType.PIG, EntityType.COW);
+    EntityMeltingRecipe cowAndSheep = recipe(EntityType.COW, EntityType.SHEEP);
+    EntityMeltingRecipe pig = recipe(EntityType.PIG);
+
+    Map<EntityType<?>,EntityMeltingRecipe> table = EntityMeltingRecipeCache.buildTable(
+      List.of(pigAndCow, cowAndSheep, pig), List.of(EntityType.PIG, EntityType.COW, EntityType.SHEEP, EntityType.ZOMBIE));
+
+    assertThat(table.get(EntityType.PIG)).isSameAs(pigAndCow);
+    assertThat(table.get(EntityType.COW)).isSameAs(pigAndCow);
+    assertThat(table.get(EntityType.SHEEP)).isSameAs(cowAndSheep);
+    assertThat(table).doesNotContainKey(EntityType.ZOMBIE);
+  }
+
+  @Test
+  void buildTable_noRecipes_empty() {
+    assertThat(EntityMeltingRecipeCache.buildTable(List.of(), List.of(EntityType.PIG))).isEmpty();
+  }
+}
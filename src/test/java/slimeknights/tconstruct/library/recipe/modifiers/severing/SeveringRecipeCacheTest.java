@@ -0,0 +1,42 @@
+package slimeknights.tconstruct.library.recipe.modifiers.severing;
+
+import net.minecraft.world.entity.EntityType;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeveringRecipeCacheTest extends BaseMcTest {
+  /** Creates a recipe matching the given types */
+  private static SeveringRecipe recipe(EntityType<?>... types) {
+    SeveringRecipe recipe = mock(SeveringRecipe.class);
+    for (EntityType<?> type : types) {
+      when(recipe.matches(type)).thenReturn(true);
+    }
+    return recipe;
+  }
+
+  @Test
+  void buildTable_allMatchesInOrder() {
+    SeveringRecipe zombieAndSkeleton = recipe(EntityType.ZOMBIE, EntityType.SKELETON);
+    SeveringRecipe skeleton = recipe(EntityType.SKELETON);
+    SeveringRecipe zombie = recipe(EntityType.ZOMBIE);
+
+    Map<EntityType<?>,List<SeveringRecipe>> table = SeveringRecipeCache.buildTable(
+      List.of(zombieAndSkeleton, skeleton, zombie), List.of(EntityType.ZOMBIE, EntityType.SKELETON, EntityType.PIG));
+
+    assertThat(table.get(EntityType.ZOMBIE)).containsExactly(zombieAndSkeleton, zombie);
+    assertThat(table.get(EntityType.SKELETON)).containsExactly(zombieAndSkeleton, skeleton);
+    assertThat(table).doesNotContainKey(EntityType.PIG);
+  }
+
+  @Test
+  void buildTable_noRecipes_empty() {
+    assertThat(SeveringRecipeCache.buildTable(List.of(), List.of(EntityType.ZOMBIE))).isEmpty();
+  }
+}
@@ -0,0 +1,44 @@
+package slimeknights.tconstruct.library.recipe.tinkerstation;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.Level;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.library.materials.definition.MaterialId;
+import slimeknights.tconstruct.library.materials.stats.MaterialStatsId;
+import slimeknights.tconstruct.library.modifiers.ModifierId;
+import slimeknights.tconstruct.library.recipe.tinkerstation.repairing.ModifierMaterialRepairRecipe;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+class TinkerStationRecipeLookupTest extends BaseMcTest {
+  @Test
+  void modifierMaterialRepair_noToolFilter() {
+    ModifierMaterialRepairRecipe recipe = new ModifierMaterialRepairRecipe(
+      new ResourceLocation("test", "repair"), new ModifierId("test", "modifier"), new MaterialId("test", "material"), new MaterialStatsId("test", "stats"));
+    assertThat(recipe.getToolFilter()).isNull();
+  }
+
+  @Test
+  void findRecipe_modifiableWithoutDurability_findsModifierRepair() {
+    // stick stands in for a modifiable tool that lacks durability, the recipe decides in matches
+    ModifierMaterialRepairRecipe recipe = spy(new ModifierMaterialRepairRecipe(
+      new ResourceLocation("test", "repair"), new ModifierId("test", "modifier"), new MaterialId("test", "material"), new MaterialStatsId("test", "stats")));
+    doReturn(true).when(recipe).matches(any(ITinkerStationContainer.class), any());
+    ITinkerStationContainer inv = mock(ITinkerStationContainer.class);
+    when(inv.getTinkerableStack()).thenReturn(new ItemStack(Items.STICK));
+    when(inv.getInputCount()).thenReturn(0);
+
+    TinkerStationRecipeLookup.RecipeIndex index = new TinkerStationRecipeLookup.RecipeIndex(List.of(recipe));
+    assertThat(index.findRecipe(inv, mock(Level.class))).isSameAs(recipe);
+  }
+}
@@ -0,0 +1,146 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.AttributeMap;
+import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.ArgumentCaptor;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierFixture;
+import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
+import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
+import slimeknights.tconstruct.library.tools.stat.ToolStats;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that a shared {@link ToolAttackSnapshot} attacks targets the same as a full attack per target, and measures the per target cost of both.
+ * Benchmarks are skipped unless run with {@code -Dtconstruct.benchmark=true}. Uses an offhand attack as that is the case where attacker attributes are most expensive.
+ */
+class ToolAttackSnapshotBenchmarkTest extends BaseMcTest {
+  /** Number of targets hit per swing, roughly a crowded mob farm */
+  private static final int TARGETS = 50;
+  /** Number of swings to measure */
+  private static final int SWINGS = 2000;
+
+  private static IToolStackView tool;
+  private static LivingEntity attacker;
+  private static List<LivingEntity> targets;
+
+  @BeforeAll
+  static void setup() {
+    ModifierFixture.init();
+    tool = mock(IToolStackView.class);
+    // unarmed skips durability, which needs a real tool
+    when(tool.hasTag(any())).thenReturn(true);
+    when(tool.getModifierList()).thenReturn(List.of(new ModifierEntry(ModifierFixture.TEST_MODIFIER_1, 1), new ModifierEntry(ModifierFixture.TEST_MODIFIER_2, 2)));
+    when(tool.getStats()).thenReturn(StatsNBT.builder().set(ToolStats.ATTACK_DAMAGE, 5f).set(ToolStats.ATTACK_SPEED, 1.6f).build());
+
+    attacker = mock(LivingEntity.class);
+    attacker.level = mock(Level.class);
+    when(attacker.getUUID()).thenReturn(UUID.randomUUID());
+    when(attacker.getMainHandItem()).thenReturn(ItemStack.EMPTY);
+    when(attacker.getAllSlots()).thenReturn(List.of());
+    when(attacker.getAttributes()).thenReturn(new AttributeMap(AttributeSupplier.builder().add(Attributes.ATTACK_DAMAGE).add(Attributes.ATTACK_KNOCKBACK).build()));
+    when(attacker.getAttributeValue(any())).thenReturn(6d);
+
+    targets = createTargets(TARGETS);
+  }
+
+  /** Creates the given number of mock targets */
+  private static List<LivingEntity> createTargets(int count) {
+    List<LivingEntity> targets = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      LivingEntity target = mock(LivingEntity.class);
+      when(target.isAttackable()).thenReturn(true);
+      when(target.hurt(any(), anyFloat())).thenReturn(true);
+      when(target.getAllSlots()).thenReturn(List.of());
+      targets.add(target);
+    }
+    return targets;
+  }
+
+  /** Everything an attack did to a single target */
+  private record Outcome(boolean hit, List<Float> damage, List<Double> knockback, int invulnerableTime) {}
+
+  /** Gets the outcome of attacking the given target */
+  private static Outcome outcome(boolean hit, LivingEntity target) {
+    ArgumentCaptor<Float> damage = ArgumentCaptor.forClass(Float.class);
+    verify(target, atLeast(0)).hurt(any(), damage.capture());
+    ArgumentCaptor<Double> knockback = ArgumentCaptor.forClass(Double.class);
+    verify(target, atLeast(0)).knockback(knockback.capture(), anyDouble(), anyDouble());
+    return new Outcome(hit, damage.getAllValues(), knockback.getAllValues(), target.invulnerableTime);
+  }
+
+  @Test
+  void snapshot_matchesFullAttack() {
+    List<Outcome> expected = new ArrayList<>();
+    for (LivingEntity target : createTargets(5)) {
+      expected.add(outcome(ToolAttackUtil.extraEntityAttack(tool, attacker, InteractionHand.OFF_HAND, target), target));
+    }
+    ToolAttackSnapshot snapshot = ToolAttackSnapshot.create(tool, attacker, InteractionHand.OFF_HAND);
+    assertThat(snapshot).isNotNull();
+    List<Outcome> actual = new ArrayList<>();
+    for (LivingEntity target : createTargets(5)) {
+      actual.add(outcome(ToolAttackUtil.extraEntityAttack(snapshot, target), target));
+    }
+    assertThat(expected).allSatisfy(outcome -> assertThat(outcome.damage()).isNotEmpty());
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  /** Runs the given attack against all targets for each swing, logging the time per target */
+  private static void run(String name, BiConsumer<InteractionHand, List<LivingEntity>> swing) {
+    // warmup
+    for (int i = 0; i < SWINGS; i++) {
+      swing.accept(InteractionHand.OFF_HAND, targets);
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < SWINGS; i++) {
+      swing.accept(InteractionHand.OFF_HAND, targets);
+    }
+    double perTarget = (double)(System.nanoTime() - start) / SWINGS / TARGETS;
+    TConstruct.LOG.info("AOE attack benchmark {}: {} ns per target", name, String.format("%.1f", perTarget));
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "tconstruct.benchmark", matches = "true")
+  void perTarget_fullAttack() {
+    run("full_attack", (hand, targets) -> {
+      for (LivingEntity target : targets) {
+        ToolAttackUtil.extraEntityAttack(tool, attacker, hand, target);
+      }
+    });
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "tconstruct.benchmark", matches = "true")
+  void perTarget_snapshot() {
+    run("snapshot", (hand, targets) -> {
+      ToolAttackSnapshot snapshot = ToolAttackSnapshot.create(tool, attacker, hand);
+      assertThat(snapshot).isNotNull();
+      for (LivingEntity target : targets) {
+        ToolAttackUtil.extraEntityAttack(snapshot, target);
+      }
+    });
+  }
+}
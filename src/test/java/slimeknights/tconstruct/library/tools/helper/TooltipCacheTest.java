@@ -0,0 +1,121 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import slimeknights.mantle.client.TooltipKey;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TooltipCacheTest extends BaseMcTest {
+  @BeforeAll
+  static void enable() {
+    TooltipCache.setEnabled(true);
+  }
+
+  @AfterAll
+  static void disable() {
+    TooltipCache.setEnabled(false);
+  }
+
+  @BeforeEach
+  void clear() {
+    TooltipCache.clear();
+  }
+
+  /** Creates a stack with a tag */
+  private static ItemStack stack() {
+    ItemStack stack = new ItemStack(Items.STICK);
+    stack.getOrCreateTag().putInt("test", 1);
+    return stack;
+  }
+
+  /** Adds the tooltip for the stack, counting the number of times the tooltip is computed */
+  private static List<Component> addInformation(ItemStack stack, TooltipKey key, AtomicInteger calls) {
+    List<Component> tooltip = new ArrayList<>();
+    tooltip.add(Component.literal("name"));
+    TooltipCache.addInformation(stack, tooltip, key, false, false, () -> tooltip.add(Component.literal("line " + calls.incrementAndGet())));
+    return tooltip;
+  }
+
+  @Test
+  void addInformation_sameStack_hits() {
+    ItemStack stack = stack();
+    AtomicInteger calls = new AtomicInteger();
+    assertThat(addInformation(stack, TooltipKey.NORMAL, calls)).containsExactly(Component.literal("name"), Component.literal("line 1"));
+    assertThat(addInformation(stack, TooltipKey.NORMAL, calls)).containsExactly(Component.literal("name"), Component.literal("line 1"));
+    assertThat(calls).hasValue(1);
+
+    // other keys are cached separately
+    addInformation(stack, TooltipKey.SHIFT, calls);
+    addInformation(stack, TooltipKey.SHIFT, calls);
+    assertThat(calls).hasValue(2);
+    addInformation(stack, TooltipKey.NORMAL, calls);
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void addInformation_tagChangedInPlace_misses() {
+    ItemStack stack = stack();
+    AtomicInteger calls = new AtomicInteger();
+    addInformation(stack, TooltipKey.NORMAL, calls);
+    stack.getOrCreateTag().putInt("test", 2);
+    assertThat(addInformation(stack, TooltipKey.NORMAL, calls)).containsExactly(Component.literal("name"), Component.literal("line 2"));
+    addInformation(stack, TooltipKey.NORMAL, calls);
+    assertThat(calls).hasValue(2);
+
+    // damage is stored in the tag too
+    stack.setDamageValue(5);
+    addInformation(stack, TooltipKey.NORMAL, calls);
+    assertThat(calls).hasValue(3);
+  }
+
+  @Test
+  void addInformation_clear_misses() {
+    ItemStack stack = stack();
+    AtomicInteger calls = new AtomicInteger();
+    addInformation(stack, TooltipKey.NORMAL, calls);
+    TooltipCache.clear();
+    addInformation(stack, TooltipKey.NORMAL, calls);
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void addInformation_noTag_notCached() {
+    ItemStack stack = new ItemStack(Items.STICK);
+    AtomicInteger calls = new AtomicInteger();
+    addInformation(stack, TooltipKey.NORMAL, calls);
+    addInformation(stack, TooltipKey.NORMAL, calls);
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void getDisplayName_hitsUntilClear() {
+    AtomicInteger calls = new AtomicInteger();
+    assertThat(TooltipCache.getDisplayName(stack(), () -> Component.literal("name " + calls.incrementAndGet()))).isEqualTo(Component.literal("name 1"));
+    // a different stack with the same materials shares the name
+    assertThat(TooltipCache.getDisplayName(stack(), () -> Component.literal("name " + calls.incrementAndGet()))).isEqualTo(Component.literal("name 1"));
+    TooltipCache.clear();
+    assertThat(TooltipCache.getDisplayName(stack(), () -> Component.literal("name " + calls.incrementAndGet()))).isEqualTo(Component.literal("name 2"));
+  }
+
+  @Test
+  void getDisplayName_clearDuringFill_notStored() {
+    AtomicInteger calls = new AtomicInteger();
+    // a clear while the name is computed means the computed name may be stale
+    TooltipCache.getDisplayName(stack(), () -> {
+      TooltipCache.clear();
+      return Component.literal("name " + calls.incrementAndGet());
+    });
+    assertThat(TooltipCache.getDisplayName(stack(), () -> Component.literal("name " + calls.incrementAndGet()))).isEqualTo(Component.literal("name 2"));
+  }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import slimeknights.tconstruct.fixture.MaterialFixture;
 import slimeknights.tconstruct.library.materials.MaterialRegistryExtension;
 import slimeknights.tconstruct.library.materials.definition.IMaterial;
+import slimeknights.tconstruct.library.materials.definition.MaterialVariant;
 import slimeknights.tconstruct.test.BaseMcTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,6 +53,31 @@ class MaterialNBTTest extends BaseMcTest {
     assertThat(materialNBT.get(1).get()).isEqualTo(TEST_MATERIAL_1);
   }
 
+  @Test
+  void deserialize_invalidKeepsIndex() {
+    ListTag nbtList = new ListTag();
+    nbtList.add(StringTag.valueOf("Invalid ID"));
+    nbtList.add(StringTag.valueOf(TEST_MATERIAL_1.getIdentifier().toString()));
+
+    MaterialNBT materialNBT = MaterialNBT.readFromNBT(nbtList);
+
+    // size before parsing the list must match the parsed list
+    assertThat(materialNBT.size()).isEqualTo(2);
+    assertThat(materialNBT.getList()).hasSize(2);
+    assertThat(materialNBT.get(0)).isSameAs(MaterialVariant.UNKNOWN);
+    assertThat(materialNBT.get(1).get()).isEqualTo(TEST_MATERIAL_1);
+  }
+
+  @Test
+  void deserialize_roundTrip() {
+    ListTag nbtList = testMaterialNBT.serializeToNBT();
+
+    MaterialNBT materialNBT = MaterialNBT.readFromNBT(nbtList);
+
+    assertThat(materialNBT).isEqualTo(testMaterialNBT);
+    assertThat(materialNBT.serializeToNBT()).isEqualTo(nbtList);
+  }
+
   @Test
   void deserialize_emptyList() {
     ListTag nbtList = new ListTag();
@@ -99,6 +99,45 @@ class ModifierNBTest extends BaseMcTest {
     assertThat(modifierNBT.getLevel(ModifierFixture.TEST_2)).isEqualTo(3);
   }
 
+  @Test
+  void deserialize_skipsInvalid() {
+    ListTag list = new ListTag();
+    CompoundTag tag = new CompoundTag();
+    tag.putString(ModifierEntry.TAG_MODIFIER, ModifierFixture.TEST_1.toString());
+    tag.putInt(ModifierEntry.TAG_LEVEL, 0);
+    list.add(tag);
+    // modifier ID of the wrong type
+    tag = new CompoundTag();
+    tag.putInt(ModifierEntry.TAG_MODIFIER, 5);
+    tag.putInt(ModifierEntry.TAG_LEVEL, 2);
+    list.add(tag);
+    tag = new CompoundTag();
+    tag.putString(ModifierEntry.TAG_MODIFIER, ModifierFixture.TEST_1.toString());
+    tag.putInt(ModifierEntry.TAG_LEVEL, 4);
+    list.add(tag);
+
+    // lookups before and after parsing the full list must agree
+    ModifierNBT modifierNBT = ModifierNBT.readFromNBT(list);
+    assertThat(modifierNBT.getLevel(ModifierFixture.TEST_1)).isEqualTo(4);
+    assertThat(modifierNBT.getEntry(ModifierFixture.TEST_1).getLevel()).isEqualTo(4);
+    assertThat(modifierNBT.getLevel(ModifierFixture.TEST_2)).isEqualTo(0);
+    assertThat(modifierNBT.getModifiers()).hasSize(1);
+    assertThat(modifierNBT.getLevel(ModifierFixture.TEST_1)).isEqualTo(4);
+  }
+
+  @Test
+  void deserialize_roundTrip() {
+    ModifierNBT.Builder builder = ModifierNBT.builder();
+    builder.add(ModifierFixture.TEST_MODIFIER_1, 2);
+    builder.add(ModifierFixture.TEST_MODIFIER_2, 3);
+    ModifierNBT original = builder.build();
+
+    ListTag list = original.serializeToNBT();
+    ModifierNBT read = ModifierNBT.readFromNBT(list);
+    assertThat(read).isEqualTo(original);
+    assertThat(read.serializeToNBT()).isEqualTo(list);
+  }
+
   @Test
   void deserializeNoData_empty() {
     ListTag nbt = new ListTag();
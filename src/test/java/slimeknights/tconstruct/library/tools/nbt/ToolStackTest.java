@@ -433,4 +433,63 @@ class ToolStackTest extends ToolItemTest {
     assertThat(toolStack.getVolatileData()).isNotEqualTo(volatileData);
     assertThat(toolStack.getModifiers().getLevel(ModifierFixture.TEST_1)).isEqualTo(2);
   }
+
+  /** Creates a tool with materials and the given modifier, optionally in a preview */
+  private ToolStack rebuildWithModifier(boolean preview) {
+    ToolStack toolStack = ToolStack.from(tool, tool.getToolDefinition(), new CompoundTag());
+    toolStack.setMaterialsRaw(MaterialNBT.of(MaterialFixture.MATERIAL_WITH_HEAD, MaterialFixture.MATERIAL_WITH_HANDLE, MaterialFixture.MATERIAL_WITH_EXTRA));
+    if (preview) {
+      ToolRebuildCache.preview(() -> {
+        toolStack.addModifier(ModifierFixture.TEST_1, 2);
+        return null;
+      });
+    } else {
+      toolStack.addModifier(ModifierFixture.TEST_1, 2);
+    }
+    return toolStack;
+  }
+
+  @Test
+  void rebuildPreview_matchesFullRebuild() {
+    ToolStack expected = rebuildWithModifier(false);
+    // first preview fills the cache, second reuses it
+    ToolStack first = rebuildWithModifier(true);
+    ToolStack second = rebuildWithModifier(true);
+    assertThat(first.getNbt()).isEqualTo(expected.getNbt());
+    assertThat(second.getNbt()).isEqualTo(expected.getNbt());
+    assertThat(second.getModifiers()).isEqualTo(expected.getModifiers());
+    assertThat(second.getStats()).isEqualTo(expected.getStats());
+  }
+
+  /** Creates a tool with materials and more damage than its durability, then rebuilds it, optionally in a preview */
+  private ToolStack rebuildDamaged(boolean preview) {
+    ToolStack toolStack = ToolStack.from(tool, tool.getToolDefinition(), new CompoundTag());
+    toolStack.setMaterialsRaw(MaterialNBT.of(MaterialFixture.MATERIAL_WITH_HEAD, MaterialFixture.MATERIAL_WITH_HANDLE, MaterialFixture.MATERIAL_WITH_EXTRA));
+    toolStack.getNbt().putInt(ToolStack.TAG_DAMAGE, 10000);
+    // load damage and broken before the rebuild so stale values would be visible
+    assertThat(toolStack.getDamageRaw()).isEqualTo(10000);
+    assertThat(toolStack.isBroken()).isFalse();
+    if (preview) {
+      ToolRebuildCache.preview(() -> {
+        toolStack.rebuildStats();
+        return null;
+      });
+    } else {
+      toolStack.rebuildStats();
+    }
+    return toolStack;
+  }
+
+  @Test
+  void rebuildPreview_lowersDamage() {
+    ToolStack expected = rebuildDamaged(false);
+    assertThat(expected.getDamageRaw()).isLessThan(10000);
+    // first preview fills the cache, second reuses it
+    ToolStack first = rebuildDamaged(true);
+    ToolStack second = rebuildDamaged(true);
+    assertThat(first.getDamageRaw()).isEqualTo(expected.getDamageRaw());
+    assertThat(second.getNbt()).isEqualTo(expected.getNbt());
+    assertThat(second.getDamageRaw()).isEqualTo(expected.getDamageRaw());
+    assertThat(second.isBroken()).isEqualTo(expected.isBroken());
+  }
 }
@@ -7,6 +7,7 @@ import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
 import slimeknights.tconstruct.test.BaseMcTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ToolStatsModifierBuilderTest extends BaseMcTest {
   private final StatsNBT testStatsNBT = StatsNBT.builder()
@@ -137,4 +138,29 @@ class ToolStatsModifierBuilderTest extends BaseMcTest {
     StatsNBT nbt = builder.build();
     assertThat(nbt.get(ToolStats.ATTACK_DAMAGE)).isEqualTo(ToolStats.ATTACK_DAMAGE.getMaxValue());
   }
+
+
+  /* Recording */
+
+  @Test
+  void recorder_replay() {
+    ModifierStatsBuilder recorder = ModifierStatsBuilder.recorder();
+    ToolStats.DURABILITY.add(recorder, 10);
+    ToolStats.HARVEST_TIER.update(recorder, Tiers.IRON);
+    ToolStats.ATTACK_DAMAGE.multiplyAll(recorder, 2f);
+
+    ModifierStatsBuilder builder = ModifierStatsBuilder.builder();
+    ToolStats.DURABILITY.add(builder, 5);
+    recorder.replay(builder);
+    StatsNBT nbt = builder.build();
+    assertThat(nbt.getInt(ToolStats.DURABILITY)).isEqualTo(15);
+    assertThat(nbt.get(ToolStats.HARVEST_TIER)).isEqualTo(Tiers.IRON);
+    assertThat(builder.getMultiplier(ToolStats.ATTACK_DAMAGE)).isEqualTo(2f);
+  }
+
+  @Test
+  void builder_replayNotRecording() {
+    ModifierStatsBuilder builder = ModifierStatsBuilder.builder();
+    assertThatThrownBy(() -> builder.replay(ModifierStatsBuilder.builder())).isInstanceOf(IllegalStateException.class);
+  }
 }
@@ -0,0 +1,78 @@
+package slimeknights.tconstruct.library.utils;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.EncoderException;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdTableTest {
+  /** Writes the given values through a table */
+  private static FriendlyByteBuf write(List<String> values) {
+    FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+    IdTable.Writer<String> writer = new IdTable.Writer<>();
+    values.forEach(writer::add);
+    writer.writeTable(buffer, FriendlyByteBuf::writeUtf);
+    buffer.writeVarInt(values.size());
+    for (String value : values) {
+      writer.write(buffer, value);
+    }
+    return buffer;
+  }
+
+  @Test
+  void roundTrip_preservesOrderAndRepeats() {
+    List<String> values = List.of("a", "b", "a", "c", "b", "a");
+    FriendlyByteBuf buffer = write(values);
+
+    IdTable.Reader<String> reader = IdTable.Reader.read(buffer, FriendlyByteBuf::readUtf);
+    int size = buffer.readVarInt();
+    assertThat(size).isEqualTo(values.size());
+    for (String value : values) {
+      assertThat(reader.read(buffer)).isEqualTo(value);
+    }
+    assertThat(buffer.readableBytes()).isZero();
+  }
+
+  @Test
+  void roundTrip_decodesEachValueOnce() {
+    FriendlyByteBuf buffer = write(List.of("a", "b", "a", "b", "a"));
+
+    int[] decoded = new int[1];
+    IdTable.Reader<String> reader = IdTable.Reader.read(buffer, buf -> {
+      decoded[0]++;
+      return buf.readUtf();
+    });
+    assertThat(decoded[0]).isEqualTo(2);
+    // values decode to the same instance each time
+    buffer.readVarInt();
+    String first = reader.read(buffer);
+    reader.read(buffer);
+    assertThat(reader.read(buffer)).isSameAs(first);
+  }
+
+  @Test
+  void read_outOfRange_throws() {
+    FriendlyByteBuf buffer = write(List.of("a", "b"));
+    IdTable.Reader<String> reader = IdTable.Reader.read(buffer, FriendlyByteBuf::readUtf);
+    buffer.readVarInt();
+    buffer.clear();
+    buffer.writeVarInt(2);
+    assertThatThrownBy(() -> reader.read(buffer)).isInstanceOf(DecoderException.class);
+    buffer.writeVarInt(-1);
+    assertThatThrownBy(() -> reader.read(buffer)).isInstanceOf(DecoderException.class);
+  }
+
+  @Test
+  void write_missingValue_throws() {
+    FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+    IdTable.Writer<String> writer = new IdTable.Writer<>();
+    writer.add("a");
+    assertThatThrownBy(() -> writer.write(buffer, "b")).isInstanceOf(EncoderException.class);
+  }
+}
@@ -0,0 +1,302 @@
+package slimeknights.tconstruct.smeltery.block.entity.module;
+
+import lombok.Builder;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.registries.RegistryObject;
+import slimeknights.mantle.block.entity.MantleBlockEntity;
+import slimeknights.mantle.recipe.ingredient.FluidIngredient;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipe;
+import slimeknights.tconstruct.smeltery.block.entity.module.alloying.MultiAlloyingModule;
+import slimeknights.tconstruct.smeltery.block.entity.module.alloying.SmelteryAlloyTank;
+import slimeknights.tconstruct.smeltery.block.entity.tank.ISmelteryTankHandler;
+import slimeknights.tconstruct.smeltery.block.entity.tank.ISmelteryTankHandler.FluidChange;
+import slimeknights.tconstruct.smeltery.block.entity.tank.SmelteryTank;
+
+import javax.annotation.Nullable;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Headless benchmark harness for the smeltery tick logic.
+ * Block entity types are not registered in unit tests, so rather than constructing a {@link slimeknights.tconstruct.smeltery.block.entity.controller.SmelteryBlockEntity},
+ * this wires the same melting inventory, tank, and alloying module to a mocked parent and runs them on the same 4 tick schedule as {@code SmelteryBlockEntity#heat()}.
+ * Fuel is replaced by a constant temperature, as fuel requires tank blocks in the world.
+ * Call {@link #setupEnvironment()} before running and {@link #restoreEnvironment()} after, as the environment changes global state.
+ */
+@Builder
+public class SmelteryBenchmark {
+  /** Items used for melting recipes, each melts into one of the fluids */
+  private static final List<Item> MELTABLE = List.of(
+    Items.IRON_INGOT, Items.GOLD_INGOT, Items.COPPER_INGOT,
+    Items.IRON_NUGGET, Items.GOLD_NUGGET, Items.RAW_IRON,
+    Items.RAW_GOLD, Items.RAW_COPPER);
+
+  /** Number of melting slots to fill */
+  @Builder.Default
+  private final int slots = 64;
+  /** Fluids the items melt into, round robin by item */
+  private final List<Fluid> fluids;
+  /** If nonnull, fluids alloy into this fluid */
+  @Nullable
+  private final Fluid alloyOutput;
+  /** Amount of fluid produced by each melting recipe */
+  @Builder.Default
+  private final int meltAmount = 90;
+  /** Melting time for each recipe */
+  @Builder.Default
+  private final int meltTime = 100;
+  /** Structure temperature */
+  @Builder.Default
+  private final int temperature = 1000;
+  /** Number of ticks to run */
+  @Builder.Default
+  private final int ticks = 20 * 60;
+  /** Number of times to refill the slots once they are all melted, simulating a continuous feed */
+  @Builder.Default
+  private final int refills = 0;
+
+  /** Result of running the benchmark */
+  public record Result(int ticks, long nanos, long allocatedBytes, int meltedItems, int meltingCompleteTick, int fluidAmount, int alloyedAmount, int alloyingCompleteTick) {
+    /** Gets the number of ticks that ran per second */
+    public double ticksPerSecond() {
+      return nanos == 0 ? 0 : ticks * 1_000_000_000d / nanos;
+    }
+
+    /** Gets the average time per tick in microseconds */
+    public double microsPerTick() {
+      return ticks == 0 ? 0 : nanos / 1000d / ticks;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d ticks: %.0f ticks/s, %.2f us/tick, %d bytes allocated (%d/tick), %d items melted, melting done at tick %d, %d mb in tank, %d mb alloyed, alloying done at tick %d",
+                           ticks, ticksPerSecond(), microsPerTick(), allocatedBytes, ticks == 0 ? 0 : allocatedBytes / ticks,
+                           meltedItems, meltingCompleteTick, fluidAmount, alloyedAmount, alloyingCompleteTick);
+    }
+  }
+
+  /** Parent for the smeltery modules, mocked as block entity types are not available */
+  public static abstract class BenchmarkParent extends MantleBlockEntity implements ISmelteryTankHandler {
+    private BenchmarkParent() {
+      super(null, BlockPos.ZERO, null);
+    }
+  }
+
+
+  /* Environment */
+
+  /** Field holding the value of a registry object */
+  private static final Field REGISTRY_VALUE;
+  /** Field holding the network instance */
+  private static final Field NETWORK_INSTANCE;
+  static {
+    try {
+      REGISTRY_VALUE = RegistryObject.class.getDeclaredField("value");
+      REGISTRY_VALUE.setAccessible(true);
+      NETWORK_INSTANCE = TinkerNetwork.class.getDeclaredField("instance");
+      NETWORK_INSTANCE.setAccessible(true);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to access environment fields", e);
+    }
+  }
+
+  /** Original values of everything changed by {@link #setupEnvironment()}, null if not set up */
+  @Nullable
+  private static Object[] originalEnvironment = null;
+
+  /** Gets the value of the given field */
+  private static Object get(Field field, @Nullable Object owner) {
+    try {
+      return field.get(owner);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to read " + field.getName(), e);
+    }
+  }
+
+  /** Sets the value of the given field */
+  private static void set(Field field, @Nullable Object owner, @Nullable Object value) {
+    try {
+      field.set(owner, value);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to set " + field.getName(), e);
+    }
+  }
+
+  /** Binds the given registry object to a value if unbound, as deferred registers do not run in unit tests */
+  private static <T> void bind(RegistryObject<T> object, T value) {
+    if (get(REGISTRY_VALUE, object) == null) {
+      set(REGISTRY_VALUE, object, value);
+    }
+  }
+
+  /** Sets up the recipe types and network needed by the modules */
+  public static synchronized void setupEnvironment() {
+    if (originalEnvironment != null) {
+      return;
+    }
+    originalEnvironment = new Object[] {
+      get(REGISTRY_VALUE, TinkerRecipeTypes.MELTING),
+      get(REGISTRY_VALUE, TinkerRecipeTypes.ALLOYING),
+      get(NETWORK_INSTANCE, null)
+    };
+    bind(TinkerRecipeTypes.MELTING, RecipeType.simple(TinkerRecipeTypes.MELTING.getId()));
+    bind(TinkerRecipeTypes.ALLOYING, RecipeType.simple(TinkerRecipeTypes.ALLOYING.getId()));
+    // slot changes send packets to the client
+    if (originalEnvironment[2] == null) {
+      set(NETWORK_INSTANCE, null, mock(TinkerNetwork.class));
+    }
+  }
+
+  /** Restores everything changed by {@link #setupEnvironment()} */
+  public static synchronized void restoreEnvironment() {
+    if (originalEnvironment != null) {
+      set(REGISTRY_VALUE, TinkerRecipeTypes.MELTING, originalEnvironment[0]);
+      set(REGISTRY_VALUE, TinkerRecipeTypes.ALLOYING, originalEnvironment[1]);
+      set(NETWORK_INSTANCE, null, originalEnvironment[2]);
+      originalEnvironment = null;
+    }
+  }
+
+  /** Creates the recipe manager for this benchmark */
+  private RecipeManager createRecipes() {
+    List<Recipe<?>> recipes = new ArrayList<>();
+    for (int i = 0; i < MELTABLE.size(); i++) {
+      Fluid fluid = fluids.get(i % fluids.size());
+      recipes.add(new MeltingRecipe(new ResourceLocation("test", "melting_" + i), "", Ingredient.of(MELTABLE.get(i)), new FluidStack(fluid, meltAmount), temperature / 2, meltTime, List.of()));
+    }
+    if (alloyOutput != null) {
+      List<FluidIngredient> inputs = fluids.stream().map(fluid -> FluidIngredient.of(fluid, 10)).toList();
+      recipes.add(new AlloyRecipe(new ResourceLocation("test", "alloy"), inputs, new FluidStack(alloyOutput, 10), temperature / 2));
+    }
+    RecipeManager manager = new RecipeManager();
+    manager.replaceRecipes(recipes);
+    return manager;
+  }
+
+  /** Fills all empty slots in the inventory */
+  private static void fillSlots(MeltingModuleInventory inventory) {
+    for (int i = 0; i < inventory.getSlots(); i++) {
+      if (inventory.getStackInSlot(i).isEmpty()) {
+        inventory.setStackInSlot(i, new ItemStack(MELTABLE.get(i % MELTABLE.size())));
+      }
+    }
+  }
+
+  /** Checks if all slots in the inventory are empty */
+  private static boolean isEmpty(MeltingModuleInventory inventory) {
+    for (int i = 0; i < inventory.getSlots(); i++) {
+      if (!inventory.getStackInSlot(i).isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Runs the benchmark, the environment must be set up first */
+  public Result run() {
+    // environment
+    Level level = mock(Level.class);
+    RecipeManager manager = createRecipes();
+    when(level.getRecipeManager()).thenReturn(manager);
+    BenchmarkParent parent = mock(BenchmarkParent.class);
+    when(parent.getLevel()).thenReturn(level);
+    when(parent.getBlockPos()).thenReturn(BlockPos.ZERO);
+
+    // modules, mirroring the smeltery
+    SmelteryTank<BenchmarkParent> tank = new SmelteryTank<>(parent);
+    tank.setCapacity(Integer.MAX_VALUE / 2);
+    SmelteryAlloyTank alloyTank = new SmelteryAlloyTank(tank);
+    MultiAlloyingModule alloyingModule = new MultiAlloyingModule(parent, alloyTank);
+    doAnswer(invocation -> {
+      alloyingModule.clearCachedRecipes();
+      return null;
+    }).when(parent).notifyFluidsChanged(eq(FluidChange.ADDED), any());
+    MeltingModuleInventory inventory = new MeltingModuleInventory(parent, tank, (rate, amount) -> amount, slots);
+    fillSlots(inventory);
+    int totalItems = slots * (refills + 1);
+    int refillsLeft = refills;
+    alloyTank.setTemperature(temperature);
+
+    // tracking
+    com.sun.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported() ? sunBean : null;
+    long threadId = Thread.currentThread().getId();
+    int meltingComplete = -1;
+    int alloyingComplete = -1;
+    int lastAlloyed = 0;
+
+    long startBytes = bean == null ? 0 : bean.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int tick = 0; tick < ticks; tick++) {
+      switch (tick % 4) {
+        case 1 -> {
+          inventory.heatItems(temperature);
+          if (meltingComplete == -1 && isEmpty(inventory)) {
+            if (refillsLeft > 0) {
+              refillsLeft--;
+              fillSlots(inventory);
+            } else {
+              meltingComplete = tick;
+            }
+          }
+        }
+        case 2 -> {
+          if (alloyOutput != null) {
+            alloyingModule.doAlloy();
+            int alloyed = getAmount(tank, alloyOutput);
+            // alloying is done once melting is done and no more alloy is produced
+            if (alloyingComplete == -1 && meltingComplete != -1 && alloyed == lastAlloyed) {
+              alloyingComplete = tick;
+            }
+            lastAlloyed = alloyed;
+          }
+        }
+      }
+    }
+    long nanos = System.nanoTime() - start;
+    long bytes = bean == null ? 0 : bean.getThreadAllocatedBytes(threadId) - startBytes;
+
+    int remaining = 0;
+    for (int i = 0; i < inventory.getSlots(); i++) {
+      if (!inventory.getStackInSlot(i).isEmpty()) {
+        remaining++;
+      }
+    }
+    int fluidAmount = 0;
+    for (FluidStack stack : tank.getFluids()) {
+      fluidAmount += stack.getAmount();
+    }
+    return new Result(ticks, nanos, bytes, totalItems - remaining - slots * refillsLeft, meltingComplete, fluidAmount, alloyOutput == null ? 0 : getAmount(tank, alloyOutput), alloyingComplete);
+  }
+
+  /** Gets the amount of the given fluid in the tank */
+  private static int getAmount(SmelteryTank<?> tank, Fluid fluid) {
+    for (FluidStack stack : tank.getFluids()) {
+      if (stack.getFluid() == fluid) {
+        return stack.getAmount();
+      }
+    }
+    return 0;
+  }
+}
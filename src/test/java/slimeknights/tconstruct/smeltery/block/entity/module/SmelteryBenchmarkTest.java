@@ -0,0 +1,73 @@
+package slimeknights.tconstruct.smeltery.block.entity.module;
+
+import net.minecraft.world.level.material.Fluids;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.smeltery.block.entity.module.SmelteryBenchmark.Result;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Local benchmarks for the smeltery tick logic, skipped unless run with {@code -Dtconstruct.benchmark=true}.
+ * Results are logged so they can be compared before and after a change, while the asserts check that no fluid is lost or created.
+ */
+@EnabledIfSystemProperty(named = "tconstruct.benchmark", matches = "true")
+class SmelteryBenchmarkTest extends BaseMcTest {
+  /** Number of untimed runs before the measured run, to let the JIT warm up */
+  private static final int WARMUP = 3;
+  /** Amount produced by each melting recipe */
+  private static final int MELT_AMOUNT = 90;
+
+  @BeforeAll
+  static void setup() {
+    SmelteryBenchmark.setupEnvironment();
+  }
+
+  @AfterAll
+  static void restore() {
+    SmelteryBenchmark.restoreEnvironment();
+  }
+
+  /** Runs the benchmark after warming up */
+  private static Result run(String name, SmelteryBenchmark benchmark) {
+    for (int i = 0; i < WARMUP; i++) {
+      benchmark.run();
+    }
+    Result result = benchmark.run();
+    TConstruct.LOG.info("Smeltery benchmark {}: {}", name, result);
+    return result;
+  }
+
+  @Test
+  void melting_singleFluid() {
+    Result result = run("melting_single_fluid", SmelteryBenchmark.builder().slots(64).fluids(List.of(Fluids.LAVA)).meltAmount(MELT_AMOUNT).build());
+    assertThat(result.meltedItems()).isEqualTo(64);
+    assertThat(result.meltingCompleteTick()).isBetween(0, result.ticks() - 1);
+    assertThat(result.fluidAmount()).isEqualTo(64 * MELT_AMOUNT);
+  }
+
+  @Test
+  void melting_manySlots() {
+    Result result = run("melting_many_slots", SmelteryBenchmark.builder().slots(255).fluids(List.of(Fluids.LAVA, Fluids.WATER)).meltAmount(MELT_AMOUNT).refills(4).ticks(20 * 60 * 5).build());
+    assertThat(result.meltedItems()).isEqualTo(255 * 5);
+    assertThat(result.fluidAmount()).isEqualTo(255 * 5 * MELT_AMOUNT);
+  }
+
+  @Test
+  void meltingAndAlloying() {
+    // only vanilla fluids exist in unit tests, so flowing water stands in for an alloy
+    Result result = run("melting_alloying", SmelteryBenchmark.builder().slots(64).fluids(List.of(Fluids.LAVA, Fluids.WATER)).meltAmount(MELT_AMOUNT).alloyOutput(Fluids.FLOWING_WATER).build());
+    assertThat(result.meltedItems()).isEqualTo(64);
+    assertThat(result.meltingCompleteTick()).isNotNegative();
+    assertThat(result.alloyingCompleteTick()).isGreaterThanOrEqualTo(result.meltingCompleteTick());
+    // each alloy consumes 10 of both inputs to produce 10, and alloying only stops once an input runs out
+    assertThat(result.fluidAmount() + result.alloyedAmount()).isEqualTo(64 * MELT_AMOUNT);
+    assertThat(result.alloyedAmount()).isEqualTo(32 * MELT_AMOUNT);
+  }
+}